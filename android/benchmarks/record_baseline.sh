@@ -0,0 +1,14 @@
+#!/bin/sh
+# Runs the JMH suites and records the results as the new baseline.
+# Usage: android/benchmarks/record_baseline.sh [benchmark regex]
+set -e
+cd "$(dirname "$0")"
+# a baseline of code that fails the checks is not worth keeping
+gradle --no-daemon -q pluginChecks
+if [ -n "$1" ]; then
+    gradle --no-daemon jmh -PjmhIncludes="$1"
+else
+    gradle --no-daemon jmh
+fi
+cp build/results/jmh/results.json baseline/results.json
+echo "Baseline written to baseline/results.json, update the table in baseline/README.md"
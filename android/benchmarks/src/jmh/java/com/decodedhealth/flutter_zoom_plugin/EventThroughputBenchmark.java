@@ -0,0 +1,74 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.MethodCall;
+
+/**
+ * A generated session of 10000 callbacks replayed as fast as possible through the hub, the
+ * roster index and the status and participant streams on a simulated SDK, alone and with an
+ * in_meeting_config_batch call through the command scheduler every 100 callbacks. The score is
+ * the time to replay the whole session.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventThroughputBenchmark {
+
+    static final int EVENTS = 10000;
+    static final int CALL_EVERY = 100;
+
+    @Param({"10", "200"})
+    public int participants;
+
+    private SimulatedPlugin plugin;
+    private SessionScript script;
+    private Runnable call;
+
+    @Setup
+    public void setUp() {
+        plugin = new SimulatedPlugin();
+        script = SessionScript.generate(42, participants, EVENTS, 5000);
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("operations", Arrays.<Object>asList(InMeetingConfigBatch.OP_MUTE_MY_AUDIO, true, InMeetingConfigBatch.OP_PIN_HOST, true));
+        arguments.put("stopOnFailure", false);
+        final MethodCall configCall = new MethodCall("in_meeting_config_batch", arguments);
+        call = new Runnable() {
+            @Override
+            public void run() {
+                plugin.call(configCall);
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.release();
+    }
+
+    @Benchmark
+    public long events() {
+        SessionPlayer.play(script, plugin.sdk, 0);
+        return plugin.statusEvents.events + plugin.participantEvents.events;
+    }
+
+    @Benchmark
+    public long eventsWithCalls() {
+        SessionPlayer.play(script, plugin.sdk, 0, CALL_EVERY, call);
+        return plugin.statusEvents.events + plugin.participantEvents.events + plugin.replies.events;
+    }
+}
@@ -0,0 +1,171 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.zoom.sdk.InMeetingAudioController;
+import us.zoom.sdk.InMeetingChatController;
+import us.zoom.sdk.InMeetingService;
+import us.zoom.sdk.InMeetingServiceListener;
+import us.zoom.sdk.InMeetingUserInfo;
+import us.zoom.sdk.InMeetingVideoController;
+import us.zoom.sdk.MobileRTCSDKError;
+
+/**
+ * An in-meeting service holding a fixed roster, with the host last so that scans visit everyone.
+ */
+class FakeInMeetingService implements InMeetingService {
+
+    static class User implements InMeetingUserInfo {
+        final long userId;
+        final String name;
+        InMeetingUserRole role;
+
+        User(long userId, String name, InMeetingUserRole role) {
+            this.userId = userId;
+            this.name = name;
+            this.role = role;
+        }
+
+        @Override
+        public long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public String getUserName() {
+            return name;
+        }
+
+        @Override
+        public InMeetingUserRole getInMeetingUserRole() {
+            return role;
+        }
+
+        @Override
+        public AudioStatus getAudioStatus() {
+            return null;
+        }
+
+        @Override
+        public VideoStatus getVideoStatus() {
+            return null;
+        }
+
+        @Override
+        public boolean isHost() {
+            return role == InMeetingUserRole.USERROLE_HOST;
+        }
+    }
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final Map<Long, User> users = new HashMap<>();
+
+    FakeInMeetingService(int participants) {
+        for (int i = 1; i <= participants; i++) {
+            InMeetingUserInfo.InMeetingUserRole role = i == participants
+                    ? InMeetingUserInfo.InMeetingUserRole.USERROLE_HOST
+                    : InMeetingUserInfo.InMeetingUserRole.USERROLE_ATTENDEE;
+            long userId = 1000 + i;
+            userIds.add(userId);
+            users.put(userId, new User(userId, "User " + i, role));
+        }
+    }
+
+    @Override
+    public void addListener(InMeetingServiceListener listener) {
+    }
+
+    @Override
+    public void removeListener(InMeetingServiceListener listener) {
+    }
+
+    @Override
+    public InMeetingAudioController getInMeetingAudioController() {
+        return null;
+    }
+
+    @Override
+    public InMeetingVideoController getInMeetingVideoController() {
+        return null;
+    }
+
+    @Override
+    public InMeetingChatController getInMeetingChatController() {
+        return null;
+    }
+
+    @Override
+    public List<Long> getInMeetingUserList() {
+        // the SDK returns a fresh list on every call
+        return new ArrayList<>(userIds);
+    }
+
+    @Override
+    public InMeetingUserInfo getUserInfoById(long userId) {
+        return users.get(userId);
+    }
+
+    @Override
+    public InMeetingUserInfo getMyUserInfo() {
+        return users.get(getMyUserID());
+    }
+
+    @Override
+    public long getMyUserID() {
+        return userIds.get(0);
+    }
+
+    @Override
+    public boolean isHostUser(long userId) {
+        User user = users.get(userId);
+        return user != null && user.isHost();
+    }
+
+    @Override
+    public boolean isMyself(long userId) {
+        return userId == getMyUserID();
+    }
+
+    @Override
+    public boolean isMeetingConnected() {
+        return true;
+    }
+
+    @Override
+    public boolean setMeetingTopic(String topic) {
+        return true;
+    }
+
+    @Override
+    public String getCurrentMeetingTopic() {
+        return "";
+    }
+
+    @Override
+    public boolean changeName(String name, long userId) {
+        return true;
+    }
+
+    @Override
+    public MobileRTCSDKError allowParticipantsToRename(boolean allow) {
+        return MobileRTCSDKError.SDKERR_SUCCESS;
+    }
+
+    @Override
+    public MobileRTCSDKError allowParticipantsToUnmuteSelf(boolean allow) {
+        return MobileRTCSDKError.SDKERR_SUCCESS;
+    }
+
+    @Override
+    public long getCurrentMeetingNumber() {
+        return 1234567890L;
+    }
+
+    @Override
+    public String getMeetingPassword() {
+        return "";
+    }
+}
@@ -0,0 +1,85 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.os.Looper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * ZoomChannelHandler.onMethodCall dispatch through the command scheduler, for a read-only method answered
+ * inline and for a mutation queued and drained on the main looper. The benchmark thread acts as
+ * the main thread; the SDK is not initialized, so the commands take their early-out paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodDispatchBenchmark {
+
+    private ZoomChannelHandler handler;
+    private MethodCall namesCall;
+    private MethodCall configCall;
+    private Reply reply;
+
+    static class Reply implements MethodChannel.Result {
+        Blackhole blackhole;
+
+        @Override
+        public void success(Object result) {
+            blackhole.consume(result);
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            blackhole.consume(errorCode);
+        }
+
+        @Override
+        public void notImplemented() {
+            blackhole.consume(this);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        handler = new ZoomChannelHandler(new Context(), new BinaryMessenger() {
+        });
+        namesCall = new MethodCall("get_participant_names", Arrays.<Number>asList(1001L, 1002L, 1003L));
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("operations", Collections.emptyList());
+        arguments.put("stopOnFailure", false);
+        configCall = new MethodCall("in_meeting_config_batch", arguments);
+
+        reply = new Reply();
+    }
+
+    @Benchmark
+    public void readOnlyInline(Blackhole blackhole) {
+        reply.blackhole = blackhole;
+        handler.onMethodCall(namesCall, reply);
+    }
+
+    @Benchmark
+    public int queuedMutation(Blackhole blackhole) {
+        reply.blackhole = blackhole;
+        handler.onMethodCall(configCall, reply);
+        return Looper.getMainLooper().runUntilIdle();
+    }
+}
@@ -0,0 +1,120 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import us.zoom.sdk.JoinMeetingOptions;
+import us.zoom.sdk.JoinMeetingParams;
+
+/**
+ * Join option decoding: the original parseBoolean-per-key code against the map and binary codecs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OptionDecodingBenchmark {
+
+    private Map<String, String> options;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        options = new HashMap<>();
+        options.put("displayName", "Benchmark User");
+        options.put("meetingNo", "1234567890");
+        options.put("password", "secret");
+        options.put("customMeetingId", "Standup");
+        options.put("participantId", "participant-42");
+        options.put("langCode", "en");
+        options.put("inviteOptions", "255");
+        options.put("meetingViewsOptions", "64");
+        String[] flags = {"noBottomToolbar", "noChatMsgToast", "noDialInViaPhone", "noDialOutToPhone",
+                "noDisconnectAudio", "noDrivingMode", "noInvite", "noMeetingEndMessage", "noMeetingErrorMessage",
+                "noShare", "noTitlebar", "noUnmuteConfirmDialog", "noVideo", "noWebinarRegisterDialog", "noAudio"};
+        for (int i = 0; i < flags.length; i++) {
+            options.put(flags[i], String.valueOf(i % 2 == 0));
+        }
+
+        bytes = encode(MeetingOptionsCodec.fromMap(options));
+    }
+
+    @Benchmark
+    public JoinMeetingOptions legacyParseBoolean() {
+        JoinMeetingOptions opts = new JoinMeetingOptions();
+        opts.custom_meeting_id = options.get("customMeetingId");
+        opts.invite_options = Integer.parseInt(options.get("inviteOptions"));
+        opts.meeting_views_options = Integer.parseInt(options.get("meetingViewsOptions"));
+        opts.no_bottom_toolbar = parseBoolean(options, "noBottomToolbar", false);
+        opts.no_chat_msg_toast = parseBoolean(options, "noChatMsgToast", false);
+        opts.no_dial_in_via_phone = parseBoolean(options, "noDialInViaPhone", false);
+        opts.no_dial_out_to_phone = parseBoolean(options, "noDialOutToPhone", false);
+        opts.no_disconnect_audio = parseBoolean(options, "noDisconnectAudio", false);
+        opts.no_driving_mode = parseBoolean(options, "noDrivingMode", false);
+        opts.no_invite = parseBoolean(options, "noInvite", false);
+        opts.no_meeting_end_message = parseBoolean(options, "noMeetingEndMessage", false);
+        opts.no_meeting_error_message = parseBoolean(options, "noMeetingErrorMessage", false);
+        opts.no_share = parseBoolean(options, "noShare", false);
+        opts.no_titlebar = parseBoolean(options, "noTitlebar", false);
+        opts.no_unmute_confirm_dialog = parseBoolean(options, "noUnmuteConfirmDialog", false);
+        opts.no_video = parseBoolean(options, "noVideo", false);
+        opts.no_webinar_register_dialog = parseBoolean(options, "noWebinarRegisterDialog", false);
+        opts.customer_key = options.get("participantId");
+        opts.no_audio = parseBoolean(options, "noAudio", false);
+        return opts;
+    }
+
+    @Benchmark
+    public JoinMeetingParams mapCodec() {
+        MeetingRequest request = MeetingOptionsCodec.fromMap(options);
+        request.applyTo(new JoinMeetingOptions());
+        return request.toJoinParams();
+    }
+
+    @Benchmark
+    public JoinMeetingParams binaryCodec() {
+        MeetingRequest request = MeetingOptionsCodec.decode(bytes);
+        request.applyTo(new JoinMeetingOptions());
+        return request.toJoinParams();
+    }
+
+    private static boolean parseBoolean(Map<String, String> options, String property, boolean defaultValue) {
+        return options.get(property) == null ? defaultValue : Boolean.parseBoolean(options.get(property));
+    }
+
+    /**
+     * Same layout as ZoomMeetingOptionAll.toOptionBytes on the Dart side.
+     */
+    static byte[] encode(MeetingRequest request) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MeetingOptionsCodec.VERSION);
+        out.writeInt(request.flags);
+        out.writeInt(request.inviteOptions);
+        out.writeInt(request.meetingViewsOptions);
+        String[] strings = {request.displayName, request.meetingNo, request.password,
+                request.customMeetingId, request.participantId, request.langCode};
+        for (String value : strings) {
+            if (value == null) {
+                out.writeShort(-1);
+                continue;
+            }
+            byte[] utf8 = value.getBytes(Charset.forName("UTF-8"));
+            out.writeShort(utf8.length);
+            out.write(utf8);
+        }
+        return bytes.toByteArray();
+    }
+}
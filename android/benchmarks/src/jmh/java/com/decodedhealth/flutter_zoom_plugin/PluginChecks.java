@@ -0,0 +1,399 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Looper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodChannel;
+import us.zoom.sdk.MeetingError;
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * Checks of the plugin behaviour the benchmarks rely on, run on the JVM against the simulated
+ * SDK. Each check throws an AssertionError on the first mismatch, so a run that completes passed.
+ * Run with the pluginChecks task of build.gradle, part of check.
+ */
+public final class PluginChecks {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    // what happens between the join and the connection loss in recoveryAttempts
+    private static final int IN_MEETING = 0;
+    private static final int AFTER_END = 1;
+    private static final int AFTER_LEAVE = 2;
+    private static final int IN_OTHER_MEETING = 3;
+
+    private PluginChecks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        codecRoundTrip();
+        codecRejectsNegativeLength();
+        schedulerOrdering();
+        schedulerReleaseThenJoin();
+        schedulerFailureKeepsDraining();
+        rejoinBackoff();
+        rejoinOnlyForItsMeeting();
+        rejoinRefusedGivesUp();
+        pendingCallsPerOwner();
+        System.out.println("plugin checks passed");
+    }
+
+    static void codecRoundTrip() throws IOException {
+        Map<String, String> options = new HashMap<>();
+        options.put("displayName", "Zoë 会议");
+        options.put("meetingNo", "1234567890");
+        options.put("password", "");
+        options.put("participantId", "participant-42");
+        options.put("langCode", "en");
+        options.put("inviteOptions", "255");
+        options.put("meetingViewsOptions", "64");
+        options.put("noInvite", "true");
+        options.put("noVideo", "true");
+        options.put("noAudio", "false");
+
+        MeetingRequest request = MeetingOptionsCodec.fromMap(options);
+        byte[] bytes = OptionDecodingBenchmark.encode(request);
+        MeetingRequest decoded = MeetingOptionsCodec.decode(bytes);
+        expect(Arrays.equals(bytes, OptionDecodingBenchmark.encode(decoded)), "decoded request differs from the encoded one");
+        expect(decoded.customMeetingId == null, "a null string must decode as null");
+        expect("".equals(decoded.password), "an empty string must decode as empty");
+    }
+
+    static void codecRejectsNegativeLength() throws IOException {
+        MeetingRequest request = new MeetingRequest();
+        request.displayName = "x";
+        byte[] bytes = OptionDecodingBenchmark.encode(request);
+        // the displayName length follows the version byte and the three ints
+        bytes[13] = (byte) 0x80;
+        bytes[14] = 0;
+        try {
+            MeetingOptionsCodec.decode(bytes);
+        } catch (IllegalArgumentException expected) {
+            return;
+        }
+        throw new AssertionError("a negative length other than -1 must be rejected");
+    }
+
+    /**
+     * Queued reads run ahead of the mutations, which keep their submission order; read-only
+     * commands run right away.
+     */
+    static void schedulerOrdering() throws InterruptedException {
+        final List<String> ran = new ArrayList<>();
+        CommandScheduler scheduler = CommandScheduler.getInstance();
+        submit(scheduler, ran, "set_auto_rejoin", "mutation 1");
+        submit(scheduler, ran, "in_meeting_config_batch", "mutation 2");
+        submit(scheduler, ran, "get_meeting_password", "read 1");
+        submit(scheduler, ran, "get_state", "read-only");
+        submit(scheduler, ran, "stop_quality_sampler", "mutation 3");
+        submit(scheduler, ran, "send_chat_batch", "mutation 4");
+        submit(scheduler, ran, "get_logged_account_info", "read 2");
+
+        expect(ran.equals(Arrays.asList("read-only")), "read-only command must not wait: " + ran);
+        runUntil(new Condition() {
+            @Override
+            public boolean done() {
+                return ran.size() == 7;
+            }
+        });
+        expect(ran.equals(Arrays.asList("read-only", "read 1", "read 2", "mutation 1", "mutation 2", "mutation 3",
+                "mutation 4")), "unexpected run order: " + ran);
+    }
+
+    /**
+     * A releaseListener sent before an init and a join runs before them, so it cannot detach the
+     * listeners of the new meeting.
+     */
+    static void schedulerReleaseThenJoin() throws InterruptedException {
+        final List<String> ran = new ArrayList<>();
+        CommandScheduler scheduler = CommandScheduler.getInstance();
+        submit(scheduler, ran, "releaseListener", "releaseListener");
+        submit(scheduler, ran, "init", "init");
+        submit(scheduler, ran, "prepare_join", "prepare_join");
+        submit(scheduler, ran, "join", "join");
+        runUntil(new Condition() {
+            @Override
+            public boolean done() {
+                return ran.size() == 4;
+            }
+        });
+        expect(ran.equals(Arrays.asList("releaseListener", "init", "prepare_join", "join")), "unexpected run order: " + ran);
+    }
+
+    static void schedulerFailureKeepsDraining() throws InterruptedException {
+        final List<String> ran = new ArrayList<>();
+        final RecordingResult failed = new RecordingResult();
+        CommandScheduler scheduler = CommandScheduler.getInstance();
+        scheduler.submit("in_meeting_config_batch", new CommandScheduler.Command(failed) {
+            @Override
+            void run() {
+                throw new ClassCastException("bad operations");
+            }
+        });
+        submit(scheduler, ran, "send_chat_batch", "after");
+        runUntil(new Condition() {
+            @Override
+            public boolean done() {
+                return ran.size() == 1;
+            }
+        });
+        expect("INVALID_ARGUMENTS".equals(failed.errorCode), "a failing command must be answered with an error");
+        expect(Integer.valueOf(0).equals(scheduler.getStats().get("queueDepth")), "queue must be drained");
+    }
+
+    /**
+     * Every refused rejoin schedules the next attempt with a delay between half and all of the
+     * capped exponential backoff, until the budget is spent.
+     */
+    static void rejoinBackoff() throws InterruptedException {
+        final int maxAttempts = 5;
+        final long baseDelayMs = 8;
+        final long maxDelayMs = 40;
+        final RecordingSink events = new RecordingSink();
+        final int[] rejoins = new int[1];
+
+        SimulatedZoomSdk sdk = new SimulatedZoomSdk();
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        hub.attach(sdk);
+        AutoRejoin autoRejoin = AutoRejoin.getInstance();
+        try {
+            autoRejoin.onListen(null, events);
+            autoRejoin.setRejoiner(new AutoRejoin.Rejoiner() {
+                @Override
+                public int rejoin(MeetingRequest request) {
+                    rejoins[0]++;
+                    return MeetingError.MEETING_ERROR_NETWORK_ERROR;
+                }
+            });
+            autoRejoin.configure(hub, sdk, true, maxAttempts, baseDelayMs, maxDelayMs);
+            autoRejoin.remember(request(String.valueOf(SimulatedZoomSdk.MEETING_NUMBER)));
+            sdk.emitFailure(MeetingError.MEETING_ERROR_NETWORK_ERROR);
+
+            runUntil(new Condition() {
+                @Override
+                public boolean done() {
+                    return events.count(AutoRejoin.EVENT_EXHAUSTED) == 1;
+                }
+            });
+
+            expect(events.count(AutoRejoin.EVENT_ATTEMPT) == maxAttempts, "attempts scheduled: " + events.events);
+            expect(rejoins[0] == maxAttempts, "rejoins made: " + rejoins[0]);
+            for (int i = 0; i < maxAttempts; i++) {
+                Map<?, ?> attempt = events.events.get(i);
+                long full = Math.min(maxDelayMs, baseDelayMs << i);
+                long delayMs = ((Number) attempt.get("delayMs")).longValue();
+                expect(((Number) attempt.get("attempts")).intValue() == i + 1, "attempt numbering: " + attempt);
+                expect(delayMs >= full / 2 && delayMs <= full, "delay " + delayMs + " outside [" + full / 2 + ", " + full + "]");
+            }
+            Map<?, ?> exhausted = events.events.get(maxAttempts);
+            expect(((Number) exhausted.get("attempts")).intValue() == maxAttempts, "exhausted after: " + exhausted);
+        } finally {
+            release(autoRejoin, hub);
+        }
+    }
+
+    /**
+     * A connection loss is only recovered in the meeting of the request, and not once it was left.
+     */
+    static void rejoinOnlyForItsMeeting() {
+        expect(recoveryAttempts(AFTER_END) == 0, "recovery started after the meeting ended");
+        expect(recoveryAttempts(AFTER_LEAVE) == 0, "recovery started after a leave");
+        expect(recoveryAttempts(IN_OTHER_MEETING) == 0, "recovery started for another meeting");
+        expect(recoveryAttempts(IN_MEETING) == 1, "recovery not started in the meeting of the request");
+    }
+
+    /**
+     * An attempt that ends in a failure other than a connection loss gives the recovery up.
+     */
+    static void rejoinRefusedGivesUp() throws InterruptedException {
+        final RecordingSink events = new RecordingSink();
+        final int[] rejoins = new int[1];
+        SimulatedZoomSdk sdk = new SimulatedZoomSdk();
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        hub.attach(sdk);
+        AutoRejoin autoRejoin = AutoRejoin.getInstance();
+        try {
+            autoRejoin.onListen(null, events);
+            autoRejoin.setRejoiner(new AutoRejoin.Rejoiner() {
+                @Override
+                public int rejoin(MeetingRequest request) {
+                    rejoins[0]++;
+                    return MeetingError.MEETING_ERROR_SUCCESS;
+                }
+            });
+            autoRejoin.configure(hub, sdk, true, 3, 1, 1);
+            autoRejoin.remember(request(String.valueOf(SimulatedZoomSdk.MEETING_NUMBER)));
+            sdk.emitFailure(MeetingError.MEETING_ERROR_NETWORK_ERROR);
+            runUntil(new Condition() {
+                @Override
+                public boolean done() {
+                    return rejoins[0] == 1;
+                }
+            });
+            sdk.emitFailure(MeetingError.MEETING_ERROR_INCORRECT_MEETING_NUMBER);
+
+            expect(events.count(AutoRejoin.EVENT_ATTEMPT) == 1, "attempts scheduled: " + events.events);
+            expect(events.count(AutoRejoin.EVENT_EXHAUSTED) == 1, "recovery not given up: " + events.events);
+            Map<?, ?> exhausted = events.events.get(1);
+            expect(((Number) exhausted.get("errorCode")).intValue() == MeetingError.MEETING_ERROR_INCORRECT_MEETING_NUMBER,
+                    "exhausted with: " + exhausted);
+        } finally {
+            release(autoRejoin, hub);
+        }
+    }
+
+    private static int recoveryAttempts(int before) {
+        RecordingSink events = new RecordingSink();
+        SimulatedZoomSdk sdk = new SimulatedZoomSdk();
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        hub.attach(sdk);
+        AutoRejoin autoRejoin = AutoRejoin.getInstance();
+        try {
+            autoRejoin.onListen(null, events);
+            autoRejoin.setRejoiner(new AutoRejoin.Rejoiner() {
+                @Override
+                public int rejoin(MeetingRequest request) {
+                    return MeetingError.MEETING_ERROR_SUCCESS;
+                }
+            });
+            autoRejoin.configure(hub, sdk, true, 3, 1000, 1000);
+            autoRejoin.remember(request(before == IN_OTHER_MEETING ? "999" : String.valueOf(SimulatedZoomSdk.MEETING_NUMBER)));
+            sdk.emitStatus(MeetingStatus.MEETING_STATUS_INMEETING);
+            if (before == AFTER_END) {
+                sdk.emitStatus(MeetingStatus.MEETING_STATUS_IDLE);
+            } else if (before == AFTER_LEAVE) {
+                sdk.emitLeaveComplete();
+            }
+            sdk.emitFailure(MeetingError.MEETING_ERROR_NETWORK_ERROR);
+            return events.count(AutoRejoin.EVENT_ATTEMPT);
+        } finally {
+            release(autoRejoin, hub);
+        }
+    }
+
+    /**
+     * Clearing the calls of one engine leaves those of another pending, until they time out.
+     */
+    static void pendingCallsPerOwner() throws InterruptedException {
+        PendingCallRegistry calls = PendingCallRegistry.getInstance();
+        Object engine = new Object();
+        Object otherEngine = new Object();
+        long dropped = calls.register(engine, "init", new RecordingResult(), 60000);
+        final RecordingResult kept = new RecordingResult();
+        long keptId = calls.register(otherEngine, "init", kept, 60000);
+        final RecordingResult expiring = new RecordingResult();
+        calls.register(otherEngine, "login_with_email", expiring, 5);
+
+        calls.clear(engine);
+        expect(!calls.success(dropped, null), "a cleared call must not be answered");
+        runUntil(new Condition() {
+            @Override
+            public boolean done() {
+                return expiring.errorCode != null;
+            }
+        });
+        expect(PendingCallRegistry.ERROR_TIMEOUT.equals(expiring.errorCode), "expired call answered with " + expiring.errorCode);
+        expect(kept.errorCode == null && calls.success(keptId, null), "the other engine's call must stay pending");
+    }
+
+    private static void release(AutoRejoin autoRejoin, ZoomEventHub hub) {
+        autoRejoin.configure(hub, null, false, AutoRejoin.DEFAULT_MAX_ATTEMPTS, AutoRejoin.DEFAULT_BASE_DELAY_MS,
+                AutoRejoin.DEFAULT_MAX_DELAY_MS);
+        autoRejoin.forget();
+        autoRejoin.onCancel(null);
+        autoRejoin.setRejoiner(null);
+        hub.detach();
+    }
+
+    private static MeetingRequest request(String meetingNo) {
+        MeetingRequest request = new MeetingRequest();
+        request.meetingNo = meetingNo;
+        request.displayName = "me";
+        return request;
+    }
+
+    private static void submit(CommandScheduler scheduler, final List<String> ran, String method, final String name) {
+        scheduler.submit(method, new CommandScheduler.Command(new RecordingResult()) {
+            @Override
+            void run() {
+                ran.add(name);
+                result.success(null);
+            }
+        });
+    }
+
+    private static void expect(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private interface Condition {
+        boolean done();
+    }
+
+    private static void runUntil(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (true) {
+            Looper.getMainLooper().runUntilIdle();
+            if (condition.done()) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("timed out after " + TIMEOUT_MS + " ms");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class RecordingResult implements MethodChannel.Result {
+        String errorCode;
+
+        @Override
+        public void success(Object result) {
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            this.errorCode = errorCode;
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    }
+
+    private static final class RecordingSink implements EventChannel.EventSink {
+        final List<Map<?, ?>> events = new ArrayList<>();
+
+        int count(String type) {
+            int count = 0;
+            for (Map<?, ?> event : events) {
+                if (type.equals(event.get("type"))) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void success(Object event) {
+            events.add((Map<?, ?>) event);
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+        }
+
+        @Override
+        public void endOfStream() {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import us.zoom.sdk.InMeetingUserInfo;
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * Host lookup: the original shouldPinHost scan of the SDK user list against the roster index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RosterScanBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int participants;
+
+    private FakeInMeetingService service;
+    private SimulatedZoomSdk sdk;
+
+    @Setup
+    public void setUp() {
+        service = new FakeInMeetingService(participants);
+
+        // the same roster on the simulator, which the index reads through the SDK facade
+        sdk = new SimulatedZoomSdk();
+        sdk.markInitialized();
+        sdk.emitStatus(MeetingStatus.MEETING_STATUS_INMEETING);
+        for (Long userId : service.getInMeetingUserList()) {
+            InMeetingUserInfo userInfo = service.getUserInfoById(userId);
+            sdk.emitJoin(userId, userInfo.getUserName(), userInfo.isHost() ? RosterIndex.ROLE_HOST : RosterIndex.ROLE_ATTENDEE);
+        }
+        RosterIndex.getInstance().attach(ZoomEventHub.getInstance(), sdk);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RosterIndex.getInstance().detach(ZoomEventHub.getInstance());
+    }
+
+    @Benchmark
+    public long legacyScan() {
+        long hostId = RosterIndex.NO_USER;
+        List<Long> userList = service.getInMeetingUserList();
+        if (userList != null) {
+            for (int i = 0; i < userList.size(); i++) {
+                InMeetingUserInfo userInfo = service.getUserInfoById(userList.get(i));
+                if (userInfo.getInMeetingUserRole() == InMeetingUserInfo.InMeetingUserRole.USERROLE_HOST) {
+                    hostId = userInfo.getUserId();
+                }
+            }
+        }
+        return hostId;
+    }
+
+    @Benchmark
+    public long rosterIndex() {
+        return RosterIndex.getInstance().getHostId();
+    }
+}
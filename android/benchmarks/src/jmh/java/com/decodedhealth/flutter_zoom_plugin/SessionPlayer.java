@@ -0,0 +1,105 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Looper;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * Replays a {@link SessionScript} into a {@link SimulatedZoomSdk} on the calling thread, which
+ * acts as the main thread. The main looper is run after each group of events sharing an offset,
+ * so that whatever the plugin posted (frame callbacks, queued commands) runs between them as it
+ * would on a device.
+ */
+final class SessionPlayer {
+
+    private static final MeetingStatus[] STATUSES = MeetingStatus.values();
+
+    private SessionPlayer() {
+    }
+
+    /**
+     * Plays the session. A speed of 1 follows the recorded offsets, 10 plays ten times faster,
+     * and 0 or less plays as fast as possible. Returns the number of events delivered.
+     */
+    static int play(SessionScript script, SimulatedZoomSdk sdk, double speed) {
+        return play(script, sdk, speed, 0, null);
+    }
+
+    /**
+     * Plays the session, running the given call after every callEvery events (never when 0).
+     */
+    static int play(SessionScript script, SimulatedZoomSdk sdk, double speed, int callEvery, Runnable call) {
+        Looper looper = Looper.getMainLooper();
+        List<SessionScript.Event> events = script.getEvents();
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < events.size(); i++) {
+            SessionScript.Event event = events.get(i);
+            if (speed > 0) {
+                long dueNanos = startNanos + (long) (event.offsetMs * 1000000L / speed);
+                long waitNanos;
+                while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+                    looper.runUntilIdle();
+                    LockSupport.parkNanos(Math.min(waitNanos, 1000000L));
+                }
+            }
+
+            deliver(sdk, event);
+            if (callEvery > 0 && (i + 1) % callEvery == 0) {
+                call.run();
+            }
+
+            boolean lastAtOffset = i + 1 == events.size() || events.get(i + 1).offsetMs != event.offsetMs;
+            if (lastAtOffset) {
+                looper.runUntilIdle();
+            }
+        }
+        return events.size();
+    }
+
+    static void deliver(SimulatedZoomSdk sdk, SessionScript.Event event) {
+        switch (event.type) {
+            case SessionScript.STATUS:
+                sdk.emitStatus(STATUSES[event.value]);
+                break;
+            case SessionScript.JOIN:
+                sdk.emitJoin(event.userId, event.name, event.value);
+                break;
+            case SessionScript.LEAVE:
+                sdk.emitLeave(event.userId);
+                break;
+            case SessionScript.HOST:
+                sdk.emitHostChange(event.userId);
+                break;
+            case SessionScript.COHOST:
+                sdk.emitCoHostChange(event.userId);
+                break;
+            case SessionScript.AUDIO:
+                sdk.emitAudio(event.userId, event.value == 1);
+                break;
+            case SessionScript.VIDEO:
+                sdk.emitVideo(event.userId, event.value == 1);
+                break;
+            case SessionScript.SPEAKER:
+                sdk.emitActiveSpeaker(event.userId);
+                break;
+            case SessionScript.ACTIVE_VIDEO:
+                sdk.emitActiveVideo(event.userId);
+                break;
+            case SessionScript.NETWORK:
+                sdk.emitNetworkQuality(event.userId);
+                break;
+            case SessionScript.CHAT:
+                sdk.emitChat(event.userId, event.name);
+                break;
+            case SessionScript.LEAVE_COMPLETE:
+                sdk.emitLeaveComplete();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown event type " + event.type);
+        }
+    }
+}
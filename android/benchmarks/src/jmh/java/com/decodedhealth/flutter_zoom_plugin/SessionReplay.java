@@ -0,0 +1,106 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Looper;
+
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+
+/**
+ * Replays a session through the plugin on a simulated SDK and prints the throughput. Run with
+ * the replay task of build.gradle.
+ *
+ * Arguments: a session file or "generate:seed:participants:events:eventsPerSecond", the speed
+ * (0 for as fast as possible), the number of events between two method calls (0 for none), and
+ * optionally a file to write the session to.
+ */
+public final class SessionReplay {
+
+    private SessionReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: SessionReplay <session file | generate:seed:participants:events:rate> [speed] [callEvery] [out]");
+            System.exit(2);
+        }
+
+        SessionScript script = load(args[0]);
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+        int callEvery = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        if (args.length > 3) {
+            Writer writer = new FileWriter(args[3]);
+            try {
+                script.write(writer);
+            } finally {
+                writer.close();
+            }
+        }
+
+        SimulatedPlugin plugin = new SimulatedPlugin();
+        long startNanos = System.nanoTime();
+        int events = playWithCalls(plugin, script, speed, callEvery);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("events        %d in %.3f s (session %d ms, speed %s)%n", events, seconds, script.getDurationMs(),
+                speed > 0 ? String.valueOf(speed) : "max");
+        System.out.printf("throughput    %.0f events/s%n", events / seconds);
+        System.out.printf("status sink   %d events%n", plugin.statusEvents.events);
+        System.out.printf("roster sink   %d batches%n", plugin.participantEvents.events);
+        System.out.printf("speaker sink  %d events%n", plugin.activeSpeakerEvents.events);
+        System.out.printf("chat sink     %d batches%n", plugin.chatEvents.events);
+        System.out.printf("method calls  %d replies, %d errors, %d SDK operations%n", plugin.replies.events, plugin.replies.errors,
+                plugin.sdk.getOperationCount());
+        System.out.println("metrics       " + MetricsRegistry.getInstance().getMetrics());
+        System.out.println("scheduler     " + CommandScheduler.getInstance().getStats());
+        plugin.release();
+    }
+
+    private static SessionScript load(String source) throws IOException {
+        if (source.startsWith("generate:")) {
+            String[] fields = source.split(":");
+            return SessionScript.generate(
+                    Long.parseLong(fields[1]),
+                    Integer.parseInt(fields[2]),
+                    Integer.parseInt(fields[3]),
+                    fields.length > 4 ? Integer.parseInt(fields[4]) : 5000);
+        }
+        Reader reader = new FileReader(source);
+        try {
+            return SessionScript.parse(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Plays the session, calling get_participant_names and an in_meeting_config_batch through the
+     * method channel handler every callEvery events.
+     */
+    private static int playWithCalls(final SimulatedPlugin plugin, SessionScript script, double speed, int callEvery) {
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("operations", Arrays.<Object>asList(InMeetingConfigBatch.OP_MUTE_MY_AUDIO, true, InMeetingConfigBatch.OP_PIN_HOST, true));
+        batch.put("stopOnFailure", false);
+        final MethodCall configCall = new MethodCall("in_meeting_config_batch", batch);
+        final MethodCall namesCall = new MethodCall("get_participant_names", Collections.<Number>singletonList(SimulatedZoomSdk.SELF_ID));
+
+        int played = SessionPlayer.play(script, plugin.sdk, speed, callEvery, new Runnable() {
+            @Override
+            public void run() {
+                plugin.call(namesCall);
+                plugin.call(configCall);
+            }
+        });
+        Looper.getMainLooper().runUntilIdle();
+        return played;
+    }
+}
@@ -0,0 +1,291 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * A recorded or generated meeting session: a list of SDK callbacks with their offset from the
+ * start of the session.
+ *
+ * The text form has one event per line, "offset-ms event arguments", '#' starting a comment:
+ *
+ * <pre>
+ * 0 status MEETING_STATUS_INMEETING
+ * 5 join 1001 attendee Ada Lovelace
+ * 7 audio 1001 unmuted
+ * 9 video 1001 on
+ * 12 host 1001
+ * 12 cohost 1002
+ * 14 speaker 1001
+ * 14 active_video 1001
+ * 16 network 1001
+ * 18 chat 1001 Hello everyone
+ * 20 leave 1001
+ * 30 leave_complete
+ * </pre>
+ *
+ * Roles are host, cohost, panelist or attendee. Events at the same offset are delivered in the
+ * same main looper turn.
+ */
+final class SessionScript {
+
+    static final int STATUS = 0;
+    static final int JOIN = 1;
+    static final int LEAVE = 2;
+    static final int HOST = 3;
+    static final int COHOST = 4;
+    static final int AUDIO = 5;
+    static final int VIDEO = 6;
+    static final int LEAVE_COMPLETE = 7;
+    static final int SPEAKER = 8;
+    static final int ACTIVE_VIDEO = 9;
+    static final int NETWORK = 10;
+    static final int CHAT = 11;
+
+    private static final String[] NAMES = {"status", "join", "leave", "host", "cohost", "audio", "video", "leave_complete",
+            "speaker", "active_video", "network", "chat"};
+    private static final String[] ROLES = {"attendee", "host", "cohost", "panelist"};
+
+    static final class Event {
+        final long offsetMs;
+        final int type;
+        final long userId;
+        // the status ordinal, the role code, or 1 for muted audio and video on
+        final int value;
+        final String name;
+
+        Event(long offsetMs, int type, long userId, int value, String name) {
+            this.offsetMs = offsetMs;
+            this.type = type;
+            this.userId = userId;
+            this.value = value;
+            this.name = name;
+        }
+    }
+
+    private final List<Event> events;
+
+    private SessionScript(List<Event> events) {
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    List<Event> getEvents() {
+        return events;
+    }
+
+    int size() {
+        return events.size();
+    }
+
+    long getDurationMs() {
+        return events.isEmpty() ? 0 : events.get(events.size() - 1).offsetMs;
+    }
+
+    static SessionScript parse(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        List<Event> events = new ArrayList<>();
+        long previousOffset = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] fields = line.split("\\s+", 5);
+            try {
+                Event event = parseEvent(fields);
+                if (event.offsetMs < previousOffset) {
+                    throw new IllegalArgumentException("offsets must not decrease");
+                }
+                previousOffset = event.offsetMs;
+                events.add(event);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new SessionScript(events);
+    }
+
+    private static Event parseEvent(String[] fields) {
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("expected an offset and an event");
+        }
+        long offsetMs = Long.parseLong(fields[0]);
+        int type = indexOf(NAMES, fields[1], "event");
+        switch (type) {
+            case STATUS:
+                requireFields(fields, 3);
+                return new Event(offsetMs, type, RosterIndex.NO_USER, MeetingStatus.valueOf(fields[2]).ordinal(), null);
+            case JOIN:
+                requireFields(fields, 4);
+                String name = fields.length > 4 ? fields[4] : "User " + fields[2];
+                return new Event(offsetMs, type, Long.parseLong(fields[2]), roleCode(fields[3]), name);
+            case CHAT:
+                requireFields(fields, 4);
+                String content = fields.length > 4 ? fields[3] + " " + fields[4] : fields[3];
+                return new Event(offsetMs, type, Long.parseLong(fields[2]), 0, content);
+            case LEAVE:
+            case HOST:
+            case COHOST:
+            case SPEAKER:
+            case ACTIVE_VIDEO:
+            case NETWORK:
+                requireFields(fields, 3);
+                return new Event(offsetMs, type, Long.parseLong(fields[2]), 0, null);
+            case AUDIO:
+                requireFields(fields, 4);
+                return new Event(offsetMs, type, Long.parseLong(fields[2]), "muted".equals(fields[3]) ? 1 : 0, null);
+            case VIDEO:
+                requireFields(fields, 4);
+                return new Event(offsetMs, type, Long.parseLong(fields[2]), "on".equals(fields[3]) ? 1 : 0, null);
+            default:
+                return new Event(offsetMs, type, RosterIndex.NO_USER, 0, null);
+        }
+    }
+
+    private static void requireFields(String[] fields, int count) {
+        if (fields.length < count) {
+            throw new IllegalArgumentException(fields[1] + " expects " + (count - 2) + " argument(s)");
+        }
+    }
+
+    private static int roleCode(String role) {
+        switch (indexOf(ROLES, role, "role")) {
+            case 1:
+                return RosterIndex.ROLE_HOST;
+            case 2:
+                return RosterIndex.ROLE_COHOST;
+            case 3:
+                return RosterIndex.ROLE_PANELIST;
+            default:
+                return RosterIndex.ROLE_ATTENDEE;
+        }
+    }
+
+    private static String roleName(int role) {
+        switch (role) {
+            case RosterIndex.ROLE_HOST:
+                return "host";
+            case RosterIndex.ROLE_COHOST:
+                return "cohost";
+            case RosterIndex.ROLE_PANELIST:
+                return "panelist";
+            default:
+                return "attendee";
+        }
+    }
+
+    private static int indexOf(String[] values, String value, String what) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unknown " + what + " " + value);
+    }
+
+    /**
+     * Writes the session in the text form read by {@link #parse(Reader)}.
+     */
+    void write(Appendable out) throws IOException {
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            out.append(Long.toString(event.offsetMs)).append(' ').append(NAMES[event.type]);
+            switch (event.type) {
+                case STATUS:
+                    out.append(' ').append(MeetingStatus.values()[event.value].name());
+                    break;
+                case JOIN:
+                    out.append(' ').append(Long.toString(event.userId)).append(' ').append(roleName(event.value))
+                            .append(' ').append(event.name);
+                    break;
+                case CHAT:
+                    out.append(' ').append(Long.toString(event.userId)).append(' ').append(event.name);
+                    break;
+                case AUDIO:
+                    out.append(' ').append(Long.toString(event.userId)).append(event.value == 1 ? " muted" : " unmuted");
+                    break;
+                case VIDEO:
+                    out.append(' ').append(Long.toString(event.userId)).append(event.value == 1 ? " on" : " off");
+                    break;
+                case LEAVE_COMPLETE:
+                    break;
+                default:
+                    out.append(' ').append(Long.toString(event.userId));
+                    break;
+            }
+            out.append('\n');
+        }
+    }
+
+    /**
+     * A synthetic session: the local user and the given number of participants join, then the
+     * requested number of audio, video, join, leave, host and reconnect events follow at the
+     * given rate, and the meeting ends. The same seed always gives the same session.
+     */
+    static SessionScript generate(long seed, int participants, int eventCount, int eventsPerSecond) {
+        Random random = new Random(seed);
+        List<Event> events = new ArrayList<>(eventCount + participants + 8);
+        List<Long> present = new ArrayList<>();
+        long nextUserId = 1001;
+
+        events.add(new Event(0, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_CONNECTING.ordinal(), null));
+        events.add(new Event(0, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_INMEETING.ordinal(), null));
+        events.add(new Event(0, JOIN, SimulatedZoomSdk.SELF_ID, RosterIndex.ROLE_HOST, "Self"));
+        for (int i = 0; i < participants; i++) {
+            long userId = nextUserId++;
+            present.add(userId);
+            events.add(new Event(0, JOIN, userId, RosterIndex.ROLE_ATTENDEE, "User " + userId));
+        }
+
+        long hostId = SimulatedZoomSdk.SELF_ID;
+        for (int i = 0; i < eventCount; i++) {
+            long offsetMs = 1 + i * 1000L / Math.max(1, eventsPerSecond);
+            int roll = random.nextInt(100);
+            if (present.isEmpty() || roll < 10) {
+                long userId = nextUserId++;
+                present.add(userId);
+                events.add(new Event(offsetMs, JOIN, userId, RosterIndex.ROLE_ATTENDEE, "User " + userId));
+            } else if (roll < 18) {
+                long userId = present.remove(random.nextInt(present.size()));
+                events.add(new Event(offsetMs, LEAVE, userId, 0, null));
+                if (userId == hostId) {
+                    hostId = SimulatedZoomSdk.SELF_ID;
+                    events.add(new Event(offsetMs, HOST, hostId, 0, null));
+                }
+            } else if (roll < 58) {
+                events.add(new Event(offsetMs, AUDIO, present.get(random.nextInt(present.size())), random.nextInt(2), null));
+            } else if (roll < 93) {
+                events.add(new Event(offsetMs, VIDEO, present.get(random.nextInt(present.size())), random.nextInt(2), null));
+            } else if (roll < 96) {
+                hostId = present.get(random.nextInt(present.size()));
+                events.add(new Event(offsetMs, HOST, hostId, 0, null));
+            } else if (roll < 98) {
+                events.add(new Event(offsetMs, COHOST, present.get(random.nextInt(present.size())), 0, null));
+            } else {
+                events.add(new Event(offsetMs, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_RECONNECTING.ordinal(), null));
+                events.add(new Event(offsetMs, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_INMEETING.ordinal(), null));
+            }
+        }
+
+        long endMs = 2 + eventCount * 1000L / Math.max(1, eventsPerSecond);
+        events.add(new Event(endMs, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_DISCONNECTING.ordinal(), null));
+        events.add(new Event(endMs, LEAVE_COMPLETE, RosterIndex.NO_USER, 0, null));
+        events.add(new Event(endMs, STATUS, RosterIndex.NO_USER, MeetingStatus.MEETING_STATUS_IDLE.ordinal(), null));
+        return new SessionScript(events);
+    }
+}
@@ -0,0 +1,94 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * The plugin wired to a {@link SimulatedZoomSdk} the way init wires it to the real SDK, with the
+ * status, participant, active speaker and chat streams listened to by counting sinks.
+ */
+final class SimulatedPlugin {
+
+    static final class CountingSink implements EventChannel.EventSink, MethodChannel.Result {
+        long events;
+        long errors;
+        Object last;
+
+        @Override
+        public void success(Object event) {
+            events++;
+            last = event;
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            errors++;
+        }
+
+        @Override
+        public void notImplemented() {
+            errors++;
+        }
+
+        @Override
+        public void endOfStream() {
+        }
+    }
+
+    final SimulatedZoomSdk sdk = new SimulatedZoomSdk();
+    final ZoomChannelHandler handler;
+    final StatusStreamHandler statusStream;
+    final ParticipantStreamHandler participantStream;
+    final ActiveSpeakerStreamHandler activeSpeakerStream;
+    final ChatStreamHandler chatStream;
+    final CountingSink statusEvents = new CountingSink();
+    final CountingSink participantEvents = new CountingSink();
+    final CountingSink activeSpeakerEvents = new CountingSink();
+    final CountingSink chatEvents = new CountingSink();
+    final CountingSink replies = new CountingSink();
+
+    SimulatedPlugin() {
+        SdkProvider.set(sdk);
+        sdk.markInitialized();
+
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        hub.attach(sdk);
+        RosterIndex.getInstance().attach(hub, sdk);
+        MeetingStateTracker.getInstance().attach(hub, sdk);
+        VideoLayoutPolicy.getInstance().attach(hub, sdk);
+        MetricsRegistry.getInstance();
+
+        handler = new ZoomChannelHandler(new Context(), new BinaryMessenger() {
+        });
+        statusStream = new StatusStreamHandler(hub);
+        statusStream.onListen(null, statusEvents);
+        participantStream = new ParticipantStreamHandler(RosterIndex.getInstance());
+        participantStream.onListen(null, participantEvents);
+        activeSpeakerStream = new ActiveSpeakerStreamHandler(hub, RosterIndex.getInstance());
+        activeSpeakerStream.onListen(null, activeSpeakerEvents);
+        chatStream = new ChatStreamHandler(hub);
+        chatStream.onListen(null, chatEvents);
+    }
+
+    void call(MethodCall methodCall) {
+        handler.onMethodCall(methodCall, replies);
+    }
+
+    void release() {
+        statusStream.onCancel(null);
+        participantStream.onCancel(null);
+        activeSpeakerStream.onCancel(null);
+        chatStream.onCancel(null);
+        handler.dispose();
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        RosterIndex.getInstance().detach(hub);
+        MeetingStateTracker.getInstance().detach(hub);
+        VideoLayoutPolicy.getInstance().detach(hub);
+        hub.detach();
+        SdkProvider.set(null);
+    }
+}
@@ -0,0 +1,464 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import us.zoom.sdk.MeetingError;
+import us.zoom.sdk.MeetingStatus;
+import us.zoom.sdk.MobileRTCSDKError;
+import us.zoom.sdk.StartMeetingOptions;
+import us.zoom.sdk.StartMeetingParamsWithoutLogin;
+import us.zoom.sdk.ZoomAuthenticationError;
+import us.zoom.sdk.ZoomError;
+import us.zoom.sdk.ZoomSDKInitParams;
+
+/**
+ * A deterministic in-process Zoom SDK.
+ *
+ * API calls answer like the SDK and deliver their results as main looper messages: init
+ * succeeds, joining goes CONNECTING then INMEETING with the local user joined, login succeeds.
+ * Everything else that happens in a meeting is driven from outside through the emit methods,
+ * usually by a {@link SessionPlayer}, which deliver the callback synchronously on the calling
+ * (main) thread. No randomness and no clock: the same calls produce the same callbacks.
+ */
+class SimulatedZoomSdk implements ZoomSdkFacade {
+
+    static final long SELF_ID = 1;
+    static final long MEETING_NUMBER = 1234567890L;
+
+    private static final class User {
+        final long userId;
+        String name;
+        int role;
+        boolean audioMuted = true;
+        boolean videoOn;
+
+        User(long userId, String name, int role) {
+            this.userId = userId;
+            this.name = name;
+            this.role = role;
+        }
+
+        ParticipantInfo toInfo() {
+            return new ParticipantInfo(userId, name, role, audioMuted, videoOn);
+        }
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<Long, User> users = new LinkedHashMap<>();
+
+    private ZoomEventHub.Subscriber listener;
+    private boolean initialized;
+    private boolean loggedIn;
+    private MeetingStatus status = MeetingStatus.MEETING_STATUS_IDLE;
+    private long operations;
+    private long initCostMs;
+
+    private final InMeetingSession session = new InMeetingSession() {
+        @Override
+        public long getMyUserId() {
+            return SimulatedZoomSdk.this.getMyUserId();
+        }
+
+        @Override
+        public int setMeetingTopic(String topic) {
+            return operation();
+        }
+
+        @Override
+        public int changeName(String name, long userId) {
+            int result = operation();
+            User user = users.get(userId);
+            if (result == InMeetingConfigBatch.RESULT_SUCCESS && user != null) {
+                user.name = name;
+            }
+            return result;
+        }
+
+        @Override
+        public int allowParticipantsToRename(boolean allow) {
+            return operation();
+        }
+
+        @Override
+        public int allowParticipantsToUnmuteSelf(boolean allow) {
+            return operation();
+        }
+
+        @Override
+        public int muteMyAudio(boolean mute) {
+            return operation();
+        }
+
+        @Override
+        public int muteMyVideo(boolean mute) {
+            return operation();
+        }
+
+        @Override
+        public int pinVideo(boolean pin, long userId) {
+            return operation();
+        }
+
+        @Override
+        public int spotlightVideo(boolean spotlight, long userId) {
+            return operation();
+        }
+    };
+
+    /**
+     * Skips the asynchronous init, for runs that do not go through SdkInitCoordinator.
+     */
+    void markInitialized() {
+        initialized = true;
+    }
+
+    /**
+     * Blocks every initialize call for the given time, as loading the SDK native libraries does.
+     */
+    void setInitCostMs(long initCostMs) {
+        this.initCostMs = initCostMs;
+    }
+
+    /**
+     * In-meeting operations called since creation.
+     */
+    long getOperationCount() {
+        return operations;
+    }
+
+    int getUserCount() {
+        return users.size();
+    }
+
+    @Override
+    public void initialize(Context context, ZoomSDKInitParams params, final InitCallback callback) {
+        if (initCostMs > 0) {
+            try {
+                Thread.sleep(initCostMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                initialized = true;
+                callback.onInitResult(ZoomError.ZOOM_ERROR_SUCCESS, 0);
+            }
+        });
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public void setLocale(Context context, Locale locale) {
+    }
+
+    @Override
+    public void setListener(ZoomEventHub.Subscriber listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean hasMeetingService() {
+        return initialized;
+    }
+
+    @Override
+    public MeetingStatus getMeetingStatus() {
+        return initialized ? status : null;
+    }
+
+    @Override
+    public void prepareMeeting(Context context, MeetingRequest request) {
+    }
+
+    @Override
+    public int joinMeeting(Context context, MeetingRequest request) {
+        return enterMeeting(request.displayName, RosterIndex.ROLE_ATTENDEE);
+    }
+
+    @Override
+    public int startInstantMeeting(Context context, MeetingRequest request) {
+        return enterMeeting(request.displayName, RosterIndex.ROLE_HOST);
+    }
+
+    @Override
+    public int startMeeting(Context context, StartMeetingParamsWithoutLogin params, StartMeetingOptions options) {
+        return enterMeeting(params.displayName, RosterIndex.ROLE_HOST);
+    }
+
+    private int enterMeeting(final String displayName, final int role) {
+        if (status != MeetingStatus.MEETING_STATUS_IDLE && status != MeetingStatus.MEETING_STATUS_FAILED) {
+            return MeetingError.MEETING_ERROR_SESSION_ERROR;
+        }
+        status = MeetingStatus.MEETING_STATUS_CONNECTING;
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                emitStatus(MeetingStatus.MEETING_STATUS_CONNECTING);
+            }
+        });
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                emitStatus(MeetingStatus.MEETING_STATUS_INMEETING);
+                emitJoin(SELF_ID, displayName, role);
+            }
+        });
+        return MeetingError.MEETING_ERROR_SUCCESS;
+    }
+
+    @Override
+    public boolean hasInMeetingService() {
+        return initialized;
+    }
+
+    @Override
+    public List<Long> getParticipantIds() {
+        // the SDK returns a fresh list on every call
+        return inMeeting() ? new ArrayList<>(users.keySet()) : null;
+    }
+
+    @Override
+    public ParticipantInfo getParticipant(long userId) {
+        User user = users.get(userId);
+        return user != null ? user.toInfo() : null;
+    }
+
+    /**
+     * Unknown (0) without video, otherwise a quality derived from the user id.
+     */
+    @Override
+    public int getVideoQuality(long userId) {
+        User user = users.get(userId);
+        if (user == null) {
+            return -1;
+        }
+        return user.videoOn ? 1 + (int) (userId % 3) : 0;
+    }
+
+    @Override
+    public long getMyUserId() {
+        return users.containsKey(SELF_ID) ? SELF_ID : RosterIndex.NO_USER;
+    }
+
+    @Override
+    public long getCurrentMeetingNumber() {
+        return inMeeting() ? MEETING_NUMBER : 0;
+    }
+
+    @Override
+    public String getMeetingPassword() {
+        return inMeeting() ? "" : null;
+    }
+
+    @Override
+    public InMeetingSession openInMeetingSession() {
+        return initialized ? session : null;
+    }
+
+    @Override
+    public int connectAudioWithVoip() {
+        return operation();
+    }
+
+    @Override
+    public int pinVideo(boolean pin, long userId) {
+        return operation();
+    }
+
+    @Override
+    public int spotlightVideo(boolean spotlight, long userId) {
+        return operation();
+    }
+
+    @Override
+    public int sendChat(long userId, String content) {
+        return operation();
+    }
+
+    private int operation() {
+        operations++;
+        return inMeeting() ? InMeetingConfigBatch.RESULT_SUCCESS : MobileRTCSDKError.SDKERR_WRONG_USEAGE.ordinal();
+    }
+
+    @Override
+    public boolean isLoggedIn() {
+        return loggedIn;
+    }
+
+    @Override
+    public int loginWithZoom(String email, String password) {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                loggedIn = true;
+                if (listener != null) {
+                    listener.onZoomSDKLoginResult(ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS);
+                }
+            }
+        });
+        return ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS;
+    }
+
+    @Override
+    public int tryAutoLoginZoom() {
+        return loginWithZoom(null, null);
+    }
+
+    @Override
+    public boolean logoutZoom() {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                loggedIn = false;
+                if (listener != null) {
+                    listener.onZoomSDKLogoutResult(ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS);
+                }
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public String[] getAccountInfo() {
+        return loggedIn ? new String[]{"simulated@example.com", "Simulated User"} : null;
+    }
+
+    void emitStatus(MeetingStatus meetingStatus) {
+        status = meetingStatus;
+        if (listener != null) {
+            listener.onMeetingStatusChanged(meetingStatus, MeetingError.MEETING_ERROR_SUCCESS, 0);
+        }
+    }
+
+    /**
+     * Loses the meeting the way the SDK reports a dropped connection: FAILED then IDLE with the
+     * error code.
+     */
+    void emitFailure(int errorCode) {
+        users.clear();
+        status = MeetingStatus.MEETING_STATUS_FAILED;
+        if (listener != null) {
+            listener.onMeetingStatusChanged(MeetingStatus.MEETING_STATUS_FAILED, errorCode, 0);
+        }
+        status = MeetingStatus.MEETING_STATUS_IDLE;
+        if (listener != null) {
+            listener.onMeetingStatusChanged(MeetingStatus.MEETING_STATUS_IDLE, errorCode, 0);
+        }
+    }
+
+    void emitJoin(long userId, String name, int role) {
+        users.put(userId, new User(userId, name, role));
+        if (listener != null) {
+            listener.onMeetingUserJoin(singleton(userId));
+        }
+    }
+
+    void emitLeave(long userId) {
+        if (users.remove(userId) != null && listener != null) {
+            listener.onMeetingUserLeave(singleton(userId));
+        }
+    }
+
+    void emitHostChange(long userId) {
+        for (User user : users.values()) {
+            if (user.role == RosterIndex.ROLE_HOST) {
+                user.role = RosterIndex.ROLE_ATTENDEE;
+            }
+        }
+        User user = users.get(userId);
+        if (user != null) {
+            user.role = RosterIndex.ROLE_HOST;
+        }
+        if (listener != null) {
+            listener.onMeetingHostChanged(userId);
+        }
+    }
+
+    void emitCoHostChange(long userId) {
+        User user = users.get(userId);
+        if (user != null) {
+            user.role = RosterIndex.ROLE_COHOST;
+        }
+        if (listener != null) {
+            listener.onMeetingCoHostChanged(userId);
+        }
+    }
+
+    void emitAudio(long userId, boolean muted) {
+        User user = users.get(userId);
+        if (user != null) {
+            user.audioMuted = muted;
+        }
+        if (listener != null) {
+            listener.onUserAudioStatusChanged(userId);
+        }
+    }
+
+    void emitVideo(long userId, boolean on) {
+        User user = users.get(userId);
+        if (user != null) {
+            user.videoOn = on;
+        }
+        if (listener != null) {
+            listener.onUserVideoStatusChanged(userId);
+        }
+    }
+
+    void emitActiveSpeaker(long userId) {
+        if (listener != null) {
+            listener.onActiveSpeakerVideoUserChanged(userId);
+        }
+    }
+
+    void emitActiveVideo(long userId) {
+        if (listener != null) {
+            listener.onActiveVideoUserChanged(userId);
+        }
+    }
+
+    void emitNetworkQuality(long userId) {
+        if (listener != null) {
+            listener.onUserNetworkQualityChanged(userId);
+        }
+    }
+
+    void emitChat(long senderId, String content) {
+        User sender = users.get(senderId);
+        if (listener != null) {
+            listener.onChatMessageReceived(new ChatMessageInfo(
+                    senderId, sender != null ? sender.name : null, RosterIndex.NO_USER, content, System.currentTimeMillis()));
+        }
+    }
+
+    void emitLeaveComplete() {
+        users.clear();
+        status = MeetingStatus.MEETING_STATUS_IDLE;
+        if (listener != null) {
+            listener.onMeetingLeaveComplete(0);
+        }
+    }
+
+    private boolean inMeeting() {
+        return status == MeetingStatus.MEETING_STATUS_INMEETING;
+    }
+
+    private static List<Long> singleton(long userId) {
+        List<Long> userList = new ArrayList<>(1);
+        userList.add(userId);
+        return userList;
+    }
+}
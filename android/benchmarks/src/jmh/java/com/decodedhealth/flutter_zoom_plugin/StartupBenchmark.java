@@ -0,0 +1,168 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.security.crypto.EncryptedSharedPreferences;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import io.flutter.embedding.engine.plugins.FlutterPlugin;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.platform.PlatformViewFactory;
+import io.flutter.plugin.platform.PlatformViewRegistry;
+import us.zoom.sdk.ZoomSDKInitParams;
+
+/**
+ * Models the cost of the plugin on a cold start, for one prewarm mode, in a fresh JVM. Run it
+ * once per mode with startup_benchmark.sh, or with the startup task of build.gradle. The first
+ * frame and the SDK load are injected delays, so the timings show where each mode schedules the
+ * load rather than how long it takes on a device; only the class counts are measured.
+ *
+ * The last "init" parameters are persisted, the plugin attaches to the engine and the engine
+ * produces its first frame "engineMs" later, then Dart calls "init" "firstInitMs" after the
+ * attach. Initializing the simulated SDK blocks the main thread for "initCostMs", as loading the
+ * SDK native libraries does. Printed, on one line:
+ * <ul>
+ * <li>attachMs: time spent in onAttachedToEngine</li>
+ * <li>frameMs: attach to first frame, the time-to-first-frame proxy</li>
+ * <li>frameClasses: classes loaded between the attach and the first frame</li>
+ * <li>initWaitMs: time the first "init" waited for the SDK</li>
+ * <li>classes: classes loaded between the attach and the end of the first "init"</li>
+ * </ul>
+ *
+ * Arguments: the mode (eager, frame or none), then optionally engineMs (150), initCostMs (120)
+ * and firstInitMs (1000).
+ */
+public final class StartupBenchmark {
+
+    private static long frameAt;
+    private static long initDoneAt;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: StartupBenchmark <eager | frame | none> [engineMs] [initCostMs] [firstInitMs]");
+            System.exit(2);
+        }
+        int mode = parseMode(args[0]);
+        long engineMs = args.length > 1 ? Long.parseLong(args[1]) : 150;
+        long initCostMs = args.length > 2 ? Long.parseLong(args[2]) : 120;
+        long firstInitMs = args.length > 3 ? Long.parseLong(args[3]) : 1000;
+
+        final Context context = new Context();
+        final ZoomSDKInitParams params = new ZoomSDKInitParams();
+        params.appKey = "key";
+        params.appSecret = "secret";
+        params.domain = "zoom.us";
+        EncryptedSharedPreferences.create(context, SecurePreferences.FILE_NAME, null, null, null).edit()
+                .putString(SdkInitCoordinator.KEY_APP_KEY, params.appKey)
+                .putString(SdkInitCoordinator.KEY_APP_SECRET, params.appSecret)
+                .putString(SdkInitCoordinator.KEY_DOMAIN, params.domain)
+                .apply();
+
+        SimulatedZoomSdk sdk = new SimulatedZoomSdk();
+        sdk.setInitCostMs(initCostMs);
+        SdkProvider.set(sdk);
+
+        FlutterPlugin.FlutterPluginBinding binding = new FlutterPlugin.FlutterPluginBinding(context,
+                new BinaryMessenger() {
+                },
+                new PlatformViewRegistry() {
+                    @Override
+                    public boolean registerViewFactory(String viewTypeId, PlatformViewFactory factory) {
+                        return true;
+                    }
+                });
+
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        Looper looper = Looper.getMainLooper();
+        Handler handler = new Handler(looper);
+
+        long classesBefore = classLoading.getTotalLoadedClassCount();
+        long attachedAt = SystemClock.uptimeMillis();
+        long startNanos = System.nanoTime();
+        FlutterZoomPlugin.setPrewarmMode(mode);
+        new FlutterZoomPlugin().onAttachedToEngine(binding);
+        double attachMs = (System.nanoTime() - startNanos) / 1e6;
+
+        Choreographer.getInstance().setFirstFrameAt(attachedAt + engineMs);
+        Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                frameAt = SystemClock.uptimeMillis();
+            }
+        });
+        runUntil(looper, new Condition() {
+            @Override
+            public boolean done() {
+                return frameAt != 0;
+            }
+        });
+        long frameClasses = classLoading.getTotalLoadedClassCount() - classesBefore;
+
+        final long[] initCalledAt = new long[1];
+        handler.postAtTime(new Runnable() {
+            @Override
+            public void run() {
+                initCalledAt[0] = SystemClock.uptimeMillis();
+                SdkInitCoordinator.getInstance().initialize(context, params, new SdkInitCoordinator.Callback() {
+                    @Override
+                    public void onInitResult(int errorCode, int internalErrorCode) {
+                        initDoneAt = SystemClock.uptimeMillis();
+                    }
+
+                    @Override
+                    public void onParamsChanged() {
+                        initDoneAt = SystemClock.uptimeMillis();
+                    }
+                });
+            }
+        }, null, attachedAt + firstInitMs);
+        runUntil(looper, new Condition() {
+            @Override
+            public boolean done() {
+                return initDoneAt != 0;
+            }
+        });
+        long classes = classLoading.getTotalLoadedClassCount() - classesBefore;
+
+        System.out.println(String.format(Locale.ROOT,
+                "mode=%s attachMs=%.2f frameMs=%d frameClasses=%d initWaitMs=%d classes=%d",
+                args[0], attachMs, frameAt - attachedAt, frameClasses, initDoneAt - initCalledAt[0], classes));
+    }
+
+    private interface Condition {
+        boolean done();
+    }
+
+    private static void runUntil(Looper looper, Condition condition) throws InterruptedException {
+        while (true) {
+            looper.runUntilIdle();
+            if (condition.done()) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static int parseMode(String mode) {
+        switch (mode) {
+            case "eager":
+                return FlutterZoomPlugin.PREWARM_EAGER;
+            case "frame":
+                return FlutterZoomPlugin.PREWARM_AFTER_FIRST_FRAME;
+            case "none":
+                return FlutterZoomPlugin.PREWARM_NONE;
+            default:
+                throw new IllegalArgumentException("unknown mode " + mode);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * Status event encoding: the original switch building a new list per event against the events
+ * StatusStreamHandler sends from the precomputed payloads, legacy and compact.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatusEncodingBenchmark {
+
+    private static final MeetingStatus[] STATUSES = MeetingStatus.values();
+
+    private final long[] compactEvent = new long[4];
+    private int next;
+    private long sequence;
+
+    private MeetingStatus nextStatus() {
+        MeetingStatus status = STATUSES[next];
+        next = (next + 1) % STATUSES.length;
+        return status;
+    }
+
+    @Benchmark
+    public List<String> legacySwitch() {
+        return getMeetingStatusMessage(nextStatus());
+    }
+
+    @Benchmark
+    public List<Object> precomputedPayload() {
+        return StatusStreamHandler.legacyEvent(StatusStreamHandler.payloadOf(nextStatus(), 0), ++sequence);
+    }
+
+    @Benchmark
+    public long[] compactPayload() {
+        return StatusStreamHandler.compactEvent(compactEvent, StatusStreamHandler.payloadOf(nextStatus(), 0), ++sequence, 0, 0);
+    }
+
+    private static List<String> getMeetingStatusMessage(MeetingStatus meetingStatus) {
+        String[] message = new String[2];
+
+        message[0] = meetingStatus != null ? meetingStatus.name() : "";
+
+        switch (meetingStatus) {
+            case MEETING_STATUS_CONNECTING:
+                message[1] = "Connect to the meeting server.";
+                break;
+            case MEETING_STATUS_DISCONNECTING:
+                message[1] = "Disconnect the meeting server, user leaves meeting.";
+                break;
+            case MEETING_STATUS_FAILED:
+                message[1] = "Failed to connect the meeting server.";
+                break;
+            case MEETING_STATUS_IDLE:
+                message[1] = "No meeting is running";
+                break;
+            case MEETING_STATUS_IN_WAITING_ROOM:
+                message[1] = "Participants who join the meeting before the start are in the waiting room.";
+                break;
+            case MEETING_STATUS_INMEETING:
+                message[1] = "Meeting is ready and in process.";
+                break;
+            case MEETING_STATUS_RECONNECTING:
+                message[1] = "Reconnecting meeting server.";
+                break;
+            case MEETING_STATUS_UNKNOWN:
+                message[1] = "Unknown status.";
+                break;
+            case MEETING_STATUS_WAITINGFORHOST:
+                message[1] = "Waiting for the host to start the meeting.";
+                break;
+            case MEETING_STATUS_WEBINAR_DEPROMOTE:
+                message[1] = "Demote the attendees from the panelist.";
+                break;
+            case MEETING_STATUS_WEBINAR_PROMOTE:
+                message[1] = "Upgrade the attendees to panelist in webinar.";
+                break;
+            default:
+                message[1] = "No status available.";
+                break;
+        }
+
+        return Arrays.asList(message);
+    }
+}
@@ -0,0 +1,36 @@
+package android.os;
+
+public class Handler {
+    private final Looper looper;
+
+    public Handler(Looper looper) {
+        this.looper = looper;
+    }
+
+    public final Looper getLooper() {
+        return looper;
+    }
+
+    public final boolean post(Runnable runnable) {
+        looper.enqueue(this, runnable, SystemClock.uptimeMillis());
+        return true;
+    }
+
+    public final boolean postDelayed(Runnable runnable, long delayMillis) {
+        looper.enqueue(this, runnable, SystemClock.uptimeMillis() + Math.max(0, delayMillis));
+        return true;
+    }
+
+    public final boolean postAtTime(Runnable runnable, Object token, long uptimeMillis) {
+        looper.enqueue(this, runnable, uptimeMillis);
+        return true;
+    }
+
+    public final void removeCallbacks(Runnable runnable) {
+        looper.remove(this, runnable);
+    }
+
+    public final void removeCallbacksAndMessages(Object token) {
+        looper.remove(this, null);
+    }
+}
@@ -0,0 +1,28 @@
+package android.os;
+
+public class HandlerThread extends Thread {
+    private final Looper looper = new Looper();
+
+    public HandlerThread(String name) {
+        super(name);
+        setDaemon(true);
+    }
+
+    public HandlerThread(String name, int priority) {
+        this(name);
+    }
+
+    @Override
+    public void run() {
+        looper.loop();
+    }
+
+    public Looper getLooper() {
+        return looper;
+    }
+
+    public boolean quitSafely() {
+        looper.quitSafely();
+        return true;
+    }
+}
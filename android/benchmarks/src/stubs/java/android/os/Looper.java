@@ -0,0 +1,149 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * JVM stand-in for the Android looper. The main looper has no thread of its own: the benchmark
+ * or simulator thread acts as the main thread and runs it with {@link #runUntilIdle()}.
+ */
+public final class Looper {
+    private static final Looper MAIN = new Looper();
+
+    private static final class Entry implements Comparable<Entry> {
+        final Handler handler;
+        final Runnable runnable;
+        final long when;
+        final long sequence;
+
+        Entry(Handler handler, Runnable runnable, long when, long sequence) {
+            this.handler = handler;
+            this.runnable = runnable;
+            this.when = when;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (when != other.when) {
+                return when < other.when ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>();
+    private final MessageQueue queue = new MessageQueue();
+    private long sequence;
+    private boolean quit;
+
+    Looper() {
+    }
+
+    public static Looper getMainLooper() {
+        return MAIN;
+    }
+
+    /**
+     * The JVM has only the main looper.
+     */
+    public static MessageQueue myQueue() {
+        return MAIN.queue;
+    }
+
+    public static void prepare() {
+    }
+
+    public MessageQueue getQueue() {
+        return queue;
+    }
+
+    public void quitSafely() {
+        synchronized (entries) {
+            quit = true;
+            entries.notifyAll();
+        }
+    }
+
+    void enqueue(Handler handler, Runnable runnable, long when) {
+        synchronized (entries) {
+            entries.add(new Entry(handler, runnable, when, sequence++));
+            entries.notifyAll();
+        }
+    }
+
+    void remove(Handler handler, Runnable runnable) {
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.handler == handler && (runnable == null || entry.runnable == runnable)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs every message that is due, then the idle handlers. Returns the number of messages run.
+     */
+    public int runUntilIdle() {
+        int count = 0;
+        while (true) {
+            Entry entry;
+            synchronized (entries) {
+                entry = entries.peek();
+                if (entry == null || entry.when > SystemClock.uptimeMillis()) {
+                    break;
+                }
+                entries.poll();
+            }
+            entry.runnable.run();
+            count++;
+        }
+        runIdleHandlers();
+        return count;
+    }
+
+    /**
+     * Runs the messages on the current thread until {@link #quitSafely()}.
+     */
+    void loop() {
+        while (true) {
+            Entry entry;
+            synchronized (entries) {
+                while (true) {
+                    if (quit) {
+                        return;
+                    }
+                    entry = entries.peek();
+                    long now = SystemClock.uptimeMillis();
+                    if (entry != null && entry.when <= now) {
+                        entries.poll();
+                        break;
+                    }
+                    try {
+                        entries.wait(entry == null ? 0 : Math.max(1, entry.when - now));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            entry.runnable.run();
+        }
+    }
+
+    private void runIdleHandlers() {
+        List<MessageQueue.IdleHandler> handlers;
+        synchronized (queue.idleHandlers) {
+            handlers = new ArrayList<>(queue.idleHandlers);
+        }
+        for (MessageQueue.IdleHandler handler : handlers) {
+            if (!handler.queueIdle()) {
+                queue.removeIdleHandler(handler);
+            }
+        }
+    }
+}
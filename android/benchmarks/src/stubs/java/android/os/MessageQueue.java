@@ -0,0 +1,24 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class MessageQueue {
+    public interface IdleHandler {
+        boolean queueIdle();
+    }
+
+    final List<IdleHandler> idleHandlers = new ArrayList<>();
+
+    public void addIdleHandler(IdleHandler handler) {
+        synchronized (idleHandlers) {
+            idleHandlers.add(handler);
+        }
+    }
+
+    public void removeIdleHandler(IdleHandler handler) {
+        synchronized (idleHandlers) {
+            idleHandlers.remove(handler);
+        }
+    }
+}
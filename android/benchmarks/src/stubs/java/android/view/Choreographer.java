@@ -0,0 +1,54 @@
+package android.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Runs frame callbacks as main looper messages, straight away unless a first frame time was set.
+ */
+public class Choreographer {
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<FrameCallback, Runnable> posted = new IdentityHashMap<>();
+    private long firstFrameAt;
+
+    public static Choreographer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Holds the callbacks posted before the given uptime until then, as if the first frame was
+     * only produced at that time.
+     */
+    public void setFirstFrameAt(long uptimeMillis) {
+        firstFrameAt = uptimeMillis;
+    }
+
+    public void postFrameCallback(final FrameCallback callback) {
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                posted.remove(callback);
+                callback.doFrame(System.nanoTime());
+            }
+        };
+        posted.put(callback, runnable);
+        handler.postAtTime(runnable, null, Math.max(SystemClock.uptimeMillis(), firstFrameAt));
+    }
+
+    public void removeFrameCallback(FrameCallback callback) {
+        Runnable runnable = posted.remove(callback);
+        if (runnable != null) {
+            handler.removeCallbacks(runnable);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package androidx.security.crypto;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Preference files kept in memory for the lifetime of the JVM, with nothing encrypted.
+ */
+public final class EncryptedSharedPreferences implements SharedPreferences {
+    public enum PrefKeyEncryptionScheme {
+        AES256_SIV
+    }
+
+    public enum PrefValueEncryptionScheme {
+        AES256_GCM
+    }
+
+    private static final Map<String, EncryptedSharedPreferences> FILES = new HashMap<>();
+
+    private final Map<String, Object> values = new HashMap<>();
+
+    public static SharedPreferences create(Context context, String fileName, MasterKey masterKey,
+            PrefKeyEncryptionScheme keyScheme, PrefValueEncryptionScheme valueScheme)
+            throws GeneralSecurityException {
+        synchronized (FILES) {
+            EncryptedSharedPreferences preferences = FILES.get(fileName);
+            if (preferences == null) {
+                preferences = new EncryptedSharedPreferences();
+                FILES.put(fileName, preferences);
+            }
+            return preferences;
+        }
+    }
+
+    private EncryptedSharedPreferences() {
+    }
+
+    private synchronized Object get(String key, Object defValue) {
+        return values.containsKey(key) ? values.get(key) : defValue;
+    }
+
+    @Override
+    public String getString(String key, String defValue) {
+        return (String) get(key, defValue);
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defValue) {
+        return (Boolean) get(key, defValue);
+    }
+
+    @Override
+    public long getLong(String key, long defValue) {
+        return (Long) get(key, defValue);
+    }
+
+    @Override
+    public int getInt(String key, int defValue) {
+        return (Integer) get(key, defValue);
+    }
+
+    @Override
+    public synchronized boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public Editor edit() {
+        return new Editor() {
+            private final Map<String, Object> changes = new HashMap<>();
+            private boolean clear;
+
+            @Override
+            public Editor putString(String key, String value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putBoolean(String key, boolean value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putLong(String key, long value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor putInt(String key, int value) {
+                changes.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Editor remove(String key) {
+                changes.put(key, null);
+                return this;
+            }
+
+            @Override
+            public Editor clear() {
+                clear = true;
+                return this;
+            }
+
+            @Override
+            public void apply() {
+                commit();
+            }
+
+            @Override
+            public boolean commit() {
+                synchronized (EncryptedSharedPreferences.this) {
+                    if (clear) {
+                        values.clear();
+                    }
+                    for (Map.Entry<String, Object> change : changes.entrySet()) {
+                        if (change.getValue() == null) {
+                            values.remove(change.getKey());
+                        } else {
+                            values.put(change.getKey(), change.getValue());
+                        }
+                    }
+                }
+                return true;
+            }
+        };
+    }
+}
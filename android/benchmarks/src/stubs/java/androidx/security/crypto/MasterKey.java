@@ -0,0 +1,24 @@
+package androidx.security.crypto;
+
+import android.content.Context;
+
+import java.security.GeneralSecurityException;
+
+public final class MasterKey {
+    public enum KeyScheme {
+        AES256_GCM
+    }
+
+    public static final class Builder {
+        public Builder(Context context) {
+        }
+
+        public Builder setKeyScheme(KeyScheme keyScheme) {
+            return this;
+        }
+
+        public MasterKey build() throws GeneralSecurityException {
+            return new MasterKey();
+        }
+    }
+}
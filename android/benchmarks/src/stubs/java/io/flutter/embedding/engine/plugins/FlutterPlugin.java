@@ -0,0 +1,37 @@
+package io.flutter.embedding.engine.plugins;
+
+import android.content.Context;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.platform.PlatformViewRegistry;
+
+public interface FlutterPlugin {
+    void onAttachedToEngine(FlutterPluginBinding binding);
+
+    void onDetachedFromEngine(FlutterPluginBinding binding);
+
+    class FlutterPluginBinding {
+        private final Context applicationContext;
+        private final BinaryMessenger binaryMessenger;
+        private final PlatformViewRegistry platformViewRegistry;
+
+        public FlutterPluginBinding(Context applicationContext, BinaryMessenger binaryMessenger,
+                                    PlatformViewRegistry platformViewRegistry) {
+            this.applicationContext = applicationContext;
+            this.binaryMessenger = binaryMessenger;
+            this.platformViewRegistry = platformViewRegistry;
+        }
+
+        public Context getApplicationContext() {
+            return applicationContext;
+        }
+
+        public BinaryMessenger getBinaryMessenger() {
+            return binaryMessenger;
+        }
+
+        public PlatformViewRegistry getPlatformViewRegistry() {
+            return platformViewRegistry;
+        }
+    }
+}
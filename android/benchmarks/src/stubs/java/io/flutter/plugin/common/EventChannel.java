@@ -0,0 +1,33 @@
+package io.flutter.plugin.common;
+
+public class EventChannel {
+    public interface EventSink {
+        void success(Object event);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void endOfStream();
+    }
+
+    public interface StreamHandler {
+        void onListen(Object arguments, EventSink events);
+
+        void onCancel(Object arguments);
+    }
+
+    private final String name;
+    private StreamHandler handler;
+
+    public EventChannel(BinaryMessenger messenger, String name) {
+        this.name = name;
+    }
+
+    public void setStreamHandler(StreamHandler handler) {
+        this.handler = handler;
+    }
+
+    /** JVM only: the handler set on this channel. */
+    public StreamHandler getStreamHandler() {
+        return handler;
+    }
+}
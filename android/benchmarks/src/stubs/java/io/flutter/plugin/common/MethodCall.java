@@ -0,0 +1,30 @@
+package io.flutter.plugin.common;
+
+import java.util.Map;
+
+public final class MethodCall {
+    public final String method;
+    public final Object arguments;
+
+    public MethodCall(String method, Object arguments) {
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T arguments() {
+        return (T) arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T argument(String key) {
+        if (arguments instanceof Map) {
+            return (T) ((Map<?, ?>) arguments).get(key);
+        }
+        return null;
+    }
+
+    public boolean hasArgument(String key) {
+        return arguments instanceof Map && ((Map<?, ?>) arguments).containsKey(key);
+    }
+}
@@ -0,0 +1,34 @@
+package io.flutter.plugin.common;
+
+public class MethodChannel {
+    public interface Result {
+        void success(Object result);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void notImplemented();
+    }
+
+    public interface MethodCallHandler {
+        void onMethodCall(MethodCall call, Result result);
+    }
+
+    private final String name;
+    private MethodCallHandler handler;
+
+    public MethodChannel(BinaryMessenger messenger, String name) {
+        this.name = name;
+    }
+
+    public void setMethodCallHandler(MethodCallHandler handler) {
+        this.handler = handler;
+    }
+
+    /** JVM only: the handler set on this channel. */
+    public MethodCallHandler getMethodCallHandler() {
+        return handler;
+    }
+
+    public void invokeMethod(String method, Object arguments) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.flutter.plugin.common;
+
+import android.app.Activity;
+import android.content.Context;
+
+import io.flutter.plugin.platform.PlatformViewRegistry;
+
+public interface PluginRegistry {
+    interface Registrar {
+        Activity activity();
+
+        Context context();
+
+        Context activeContext();
+
+        BinaryMessenger messenger();
+
+        PlatformViewRegistry platformViewRegistry();
+    }
+}
@@ -0,0 +1,5 @@
+package io.flutter.plugin.common;
+
+public class StandardMessageCodec implements MessageCodec<Object> {
+    public static final StandardMessageCodec INSTANCE = new StandardMessageCodec();
+}
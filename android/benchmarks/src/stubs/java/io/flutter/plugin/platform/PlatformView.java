@@ -0,0 +1,9 @@
+package io.flutter.plugin.platform;
+
+import android.view.View;
+
+public interface PlatformView {
+    View getView();
+
+    void dispose();
+}
@@ -0,0 +1,12 @@
+package io.flutter.plugin.platform;
+
+import android.content.Context;
+
+import io.flutter.plugin.common.MessageCodec;
+
+public abstract class PlatformViewFactory {
+    public PlatformViewFactory(MessageCodec<Object> createArgsCodec) {
+    }
+
+    public abstract PlatformView create(Context context, int viewId, Object args);
+}
@@ -0,0 +1,5 @@
+package io.flutter.plugin.platform;
+
+public interface PlatformViewRegistry {
+    boolean registerViewFactory(String viewTypeId, PlatformViewFactory factory);
+}
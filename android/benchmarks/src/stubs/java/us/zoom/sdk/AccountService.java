@@ -0,0 +1,7 @@
+package us.zoom.sdk;
+
+public interface AccountService {
+    String getAccountEmail();
+
+    String getAccountName();
+}
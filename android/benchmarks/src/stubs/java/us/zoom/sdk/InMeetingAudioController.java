@@ -0,0 +1,11 @@
+package us.zoom.sdk;
+
+public interface InMeetingAudioController {
+    MobileRTCSDKError connectAudioWithVoIP();
+
+    MobileRTCSDKError muteMyAudio(boolean mute);
+
+    boolean isMyAudioMuted();
+
+    boolean isAudioConnected();
+}
@@ -0,0 +1,15 @@
+package us.zoom.sdk;
+
+public interface InMeetingChatController {
+    enum MobileRTCChatGroup {
+        MobileRTCChatGroup_All,
+        MobileRTCChatGroup_Panelists,
+        MobileRTCChatGroup_WaitingRoomUsers
+    }
+
+    MobileRTCSDKError sendChatToUser(long userId, String content);
+
+    MobileRTCSDKError sendChatToGroup(MobileRTCChatGroup group, String content);
+
+    boolean isChatDisabled();
+}
@@ -0,0 +1,19 @@
+package us.zoom.sdk;
+
+public interface InMeetingChatMessage {
+    long getSenderUserId();
+
+    String getSenderDisplayName();
+
+    long getReceiverUserId();
+
+    String getReceiverDisplayName();
+
+    String getContent();
+
+    long getTime();
+
+    boolean isChatToAll();
+
+    String getMsgId();
+}
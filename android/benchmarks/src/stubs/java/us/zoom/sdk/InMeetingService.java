@@ -0,0 +1,43 @@
+package us.zoom.sdk;
+
+import java.util.List;
+
+public interface InMeetingService {
+    void addListener(InMeetingServiceListener listener);
+
+    void removeListener(InMeetingServiceListener listener);
+
+    InMeetingAudioController getInMeetingAudioController();
+
+    InMeetingVideoController getInMeetingVideoController();
+
+    InMeetingChatController getInMeetingChatController();
+
+    List<Long> getInMeetingUserList();
+
+    InMeetingUserInfo getUserInfoById(long userId);
+
+    InMeetingUserInfo getMyUserInfo();
+
+    long getMyUserID();
+
+    boolean isHostUser(long userId);
+
+    boolean isMyself(long userId);
+
+    boolean isMeetingConnected();
+
+    boolean setMeetingTopic(String topic);
+
+    String getCurrentMeetingTopic();
+
+    boolean changeName(String name, long userId);
+
+    MobileRTCSDKError allowParticipantsToRename(boolean allow);
+
+    MobileRTCSDKError allowParticipantsToUnmuteSelf(boolean allow);
+
+    long getCurrentMeetingNumber();
+
+    String getMeetingPassword();
+}
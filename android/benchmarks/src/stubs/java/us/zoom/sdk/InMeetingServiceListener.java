@@ -0,0 +1,41 @@
+package us.zoom.sdk;
+
+import java.util.List;
+
+public interface InMeetingServiceListener {
+    enum AudioStatus {
+        Audio_None,
+        Audio_Muted,
+        Audio_UnMuted
+    }
+
+    enum VideoStatus {
+        Video_ON,
+        Video_OFF,
+        Video_Mute_ByHost
+    }
+
+    void onMeetingUserJoin(List<Long> userList);
+
+    void onMeetingUserLeave(List<Long> userList);
+
+    void onMeetingUserUpdated(long userId);
+
+    void onMeetingHostChanged(long userId);
+
+    void onMeetingCoHostChanged(long userId);
+
+    void onActiveVideoUserChanged(long userId);
+
+    void onActiveSpeakerVideoUserChanged(long userId);
+
+    void onUserAudioStatusChanged(long userId, AudioStatus audioStatus);
+
+    void onUserVideoStatusChanged(long userId, VideoStatus videoStatus);
+
+    void onUserNetworkQualityChanged(long userId);
+
+    void onChatMessageReceived(InMeetingChatMessage message);
+
+    void onMeetingLeaveComplete(long ret);
+}
@@ -0,0 +1,47 @@
+package us.zoom.sdk;
+
+public interface InMeetingUserInfo {
+    enum InMeetingUserRole {
+        USERROLE_NONE,
+        USERROLE_HOST,
+        USERROLE_COHOST,
+        USERROLE_PANELIST,
+        USERROLE_BREAKOUTROOM_MODERATOR,
+        USERROLE_ATTENDEE
+    }
+
+    enum VideoQuality {
+        Video_Quality_Unknown,
+        Video_Quality_Bad,
+        Video_Quality_Normal,
+        Video_Quality_Good
+    }
+
+    interface AudioStatus {
+        boolean isMuted();
+
+        boolean isTalking();
+    }
+
+    interface VideoStatus {
+        boolean isSending();
+
+        boolean isReceiving();
+
+        boolean isSource();
+
+        VideoQuality getVideoQuality();
+    }
+
+    long getUserId();
+
+    String getUserName();
+
+    InMeetingUserRole getInMeetingUserRole();
+
+    AudioStatus getAudioStatus();
+
+    VideoStatus getVideoStatus();
+
+    boolean isHost();
+}
@@ -0,0 +1,11 @@
+package us.zoom.sdk;
+
+public interface InMeetingVideoController {
+    boolean pinVideo(boolean pin, long userId);
+
+    boolean spotLightVideo(boolean spotlight, long userId);
+
+    MobileRTCSDKError muteMyVideo(boolean mute);
+
+    boolean isMyVideoMuted();
+}
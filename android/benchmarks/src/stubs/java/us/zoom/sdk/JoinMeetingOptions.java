@@ -0,0 +1,5 @@
+package us.zoom.sdk;
+
+public class JoinMeetingOptions extends MeetingOptions {
+    public String webinar_token;
+}
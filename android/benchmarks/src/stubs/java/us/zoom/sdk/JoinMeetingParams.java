@@ -0,0 +1,8 @@
+package us.zoom.sdk;
+
+public class JoinMeetingParams {
+    public String displayName;
+    public String meetingNo;
+    public String password;
+    public String vanityID;
+}
@@ -0,0 +1,13 @@
+package us.zoom.sdk;
+
+public interface MeetingError {
+    int MEETING_ERROR_SUCCESS = 0;
+    int MEETING_ERROR_INCORRECT_MEETING_NUMBER = 1;
+    int MEETING_ERROR_TIMEOUT = 2;
+    int MEETING_ERROR_NETWORK_UNAVAILABLE = 3;
+    int MEETING_ERROR_CLIENT_INCOMPATIBLE = 4;
+    int MEETING_ERROR_NETWORK_ERROR = 5;
+    int MEETING_ERROR_MMR_ERROR = 6;
+    int MEETING_ERROR_SESSION_ERROR = 7;
+    int MEETING_ERROR_NO_MMR = 11;
+}
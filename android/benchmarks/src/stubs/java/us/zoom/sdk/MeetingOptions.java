@@ -0,0 +1,23 @@
+package us.zoom.sdk;
+
+public class MeetingOptions {
+    public boolean no_driving_mode;
+    public boolean no_invite;
+    public boolean no_meeting_end_message;
+    public boolean no_titlebar;
+    public boolean no_bottom_toolbar;
+    public boolean no_dial_in_via_phone;
+    public boolean no_dial_out_to_phone;
+    public boolean no_disconnect_audio;
+    public boolean no_share;
+    public boolean no_audio;
+    public boolean no_video;
+    public boolean no_meeting_error_message;
+    public boolean no_unmute_confirm_dialog;
+    public boolean no_webinar_register_dialog;
+    public boolean no_chat_msg_toast;
+    public int invite_options;
+    public int meeting_views_options;
+    public String custom_meeting_id;
+    public String customer_key;
+}
@@ -0,0 +1,21 @@
+package us.zoom.sdk;
+
+import android.content.Context;
+
+public interface MeetingService {
+    int USER_TYPE_API_USER = 99;
+
+    void addListener(MeetingServiceListener listener);
+
+    void removeListener(MeetingServiceListener listener);
+
+    MeetingStatus getMeetingStatus();
+
+    int joinMeetingWithParams(Context context, JoinMeetingParams params, JoinMeetingOptions options);
+
+    int startMeetingWithParams(Context context, StartMeetingParamsWithoutLogin params, StartMeetingOptions options);
+
+    int startInstantMeeting(Context context, StartMeetingOptions options);
+
+    long getCurrentRtcMeetingNumber();
+}
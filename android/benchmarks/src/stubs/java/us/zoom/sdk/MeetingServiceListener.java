@@ -0,0 +1,5 @@
+package us.zoom.sdk;
+
+public interface MeetingServiceListener {
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode);
+}
@@ -0,0 +1,11 @@
+package us.zoom.sdk;
+
+public interface MeetingSettingsHelper {
+    void setAutoConnectVoIPWhenJoinMeeting(boolean enable);
+
+    void setMuteMyMicrophoneWhenJoinMeeting(boolean enable);
+
+    void setTurnOffMyVideoWhenJoinMeeting(boolean enable);
+
+    void disableShowVideoPreviewWhenJoinMeeting(boolean disable);
+}
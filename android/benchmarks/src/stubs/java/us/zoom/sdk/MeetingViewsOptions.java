@@ -0,0 +1,14 @@
+package us.zoom.sdk;
+
+public interface MeetingViewsOptions {
+    int NO_BUTTON_VIDEO = 2;
+    int NO_BUTTON_AUDIO = 4;
+    int NO_BUTTON_SHARE = 8;
+    int NO_BUTTON_PARTICIPANTS = 16;
+    int NO_BUTTON_MORE = 32;
+    int NO_TEXT_PASSWORD = 64;
+    int NO_TEXT_MEETING_ID = 128;
+    int NO_BUTTON_LEAVE = 256;
+    int NO_BUTTON_SWITCH_CAMERA = 512;
+    int NO_BUTTON_SWITCH_AUDIO_SOURCE = 1024;
+}
@@ -0,0 +1,30 @@
+package us.zoom.sdk;
+
+public enum MobileRTCSDKError {
+    SDKERR_SUCCESS,
+    SDKERR_NO_IMPL,
+    SDKERR_WRONG_USEAGE,
+    SDKERR_INVALID_PARAMETER,
+    SDKERR_MODULE_LOAD_FAILED,
+    SDKERR_MEMORY_FAILED,
+    SDKERR_SERVICE_FAILED,
+    SDKERR_UNINITIALIZE,
+    SDKERR_UNAUTHENTICATION,
+    SDKERR_NORECORDINGINPROCESS,
+    SDKERR_TRANSCODER_NOFOUND,
+    SDKERR_VIDEO_NOTREADY,
+    SDKERR_NO_PERMISSION,
+    SDKERR_UNKNOWN,
+    SDKERR_OTHER_SDK_INSTANCE_RUNNING,
+    SDKERR_INTELNAL_ERROR,
+    SDKERR_NO_AUDIODEVICE_ISFOUND,
+    SDKERR_NO_VIDEODEVICE_ISFOUND,
+    SDKERR_TOO_FREQUENT_CALL,
+    SDKERR_FAIL_ASSIGN_USER_PRIVILEGE,
+    SDKERR_MEETING_DONT_SUPPORT_FEATURE,
+    SDKERR_MEETING_NOT_SHARE_SENDER,
+    SDKERR_MEETING_YOU_HAVE_NO_SHARE,
+    SDKERR_MEETING_VIEWTYPE_PARAMETER_IS_WRONG,
+    SDKERR_MEETING_ANNOTATION_IS_OFF,
+    SDKERR_SETTING_OS_DONT_SUPPORT
+}
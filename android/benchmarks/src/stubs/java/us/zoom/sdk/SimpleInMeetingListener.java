@@ -0,0 +1,41 @@
+package us.zoom.sdk;
+
+import java.util.List;
+
+public abstract class SimpleInMeetingListener implements InMeetingServiceListener {
+    public void onMeetingUserJoin(List<Long> userList) {
+    }
+
+    public void onMeetingUserLeave(List<Long> userList) {
+    }
+
+    public void onMeetingUserUpdated(long userId) {
+    }
+
+    public void onMeetingHostChanged(long userId) {
+    }
+
+    public void onMeetingCoHostChanged(long userId) {
+    }
+
+    public void onActiveVideoUserChanged(long userId) {
+    }
+
+    public void onActiveSpeakerVideoUserChanged(long userId) {
+    }
+
+    public void onUserAudioStatusChanged(long userId, AudioStatus audioStatus) {
+    }
+
+    public void onUserVideoStatusChanged(long userId, VideoStatus videoStatus) {
+    }
+
+    public void onUserNetworkQualityChanged(long userId) {
+    }
+
+    public void onChatMessageReceived(InMeetingChatMessage message) {
+    }
+
+    public void onMeetingLeaveComplete(long ret) {
+    }
+}
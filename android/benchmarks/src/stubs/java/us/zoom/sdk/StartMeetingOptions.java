@@ -0,0 +1,4 @@
+package us.zoom.sdk;
+
+public class StartMeetingOptions extends MeetingOptions {
+}
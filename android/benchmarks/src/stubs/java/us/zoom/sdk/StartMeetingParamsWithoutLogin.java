@@ -0,0 +1,10 @@
+package us.zoom.sdk;
+
+public class StartMeetingParamsWithoutLogin {
+    public String userId;
+    public String displayName;
+    public String meetingNo;
+    public String zoomAccessToken;
+    public String zoomToken;
+    public int userType;
+}
@@ -0,0 +1,5 @@
+package us.zoom.sdk;
+
+public interface ZoomAuthenticationError {
+    int ZOOM_AUTH_ERROR_SUCCESS = 0;
+}
@@ -0,0 +1,5 @@
+package us.zoom.sdk;
+
+public interface ZoomError {
+    int ZOOM_ERROR_SUCCESS = 0;
+}
@@ -0,0 +1,65 @@
+package us.zoom.sdk;
+
+import android.content.Context;
+
+import java.util.Locale;
+
+/**
+ * An SDK that never initializes: every service is unavailable.
+ */
+public class ZoomSDK {
+    private static final ZoomSDK INSTANCE = new ZoomSDK();
+
+    public static ZoomSDK getInstance() {
+        return INSTANCE;
+    }
+
+    public void initialize(Context context, ZoomSDKInitializeListener listener, ZoomSDKInitParams params) {
+        listener.onZoomSDKInitializeResult(1, 0);
+    }
+
+    public boolean isInitialized() {
+        return false;
+    }
+
+    public void setSdkLocale(Context context, Locale locale) {
+    }
+
+    public MeetingService getMeetingService() {
+        return null;
+    }
+
+    public InMeetingService getInMeetingService() {
+        return null;
+    }
+
+    public AccountService getAccountService() {
+        return null;
+    }
+
+    public MeetingSettingsHelper getMeetingSettingsHelper() {
+        return null;
+    }
+
+    public void addAuthenticationListener(ZoomSDKAuthenticationListener listener) {
+    }
+
+    public void removeAuthenticationListener(ZoomSDKAuthenticationListener listener) {
+    }
+
+    public boolean isLoggedIn() {
+        return false;
+    }
+
+    public int tryAutoLoginZoom() {
+        return 1;
+    }
+
+    public int loginWithZoom(String userName, String password) {
+        return 1;
+    }
+
+    public boolean logoutZoom() {
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package us.zoom.sdk;
+
+public interface ZoomSDKAuthenticationListener {
+    void onZoomSDKLoginResult(long result);
+
+    void onZoomSDKLogoutResult(long result);
+
+    void onZoomIdentityExpired();
+
+    void onZoomAuthIdentityExpired();
+}
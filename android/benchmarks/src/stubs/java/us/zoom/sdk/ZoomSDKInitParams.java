@@ -0,0 +1,9 @@
+package us.zoom.sdk;
+
+public class ZoomSDKInitParams {
+    public String jwtToken;
+    public String appKey;
+    public String appSecret;
+    public String domain;
+    public boolean enableLog;
+}
@@ -0,0 +1,7 @@
+package us.zoom.sdk;
+
+public interface ZoomSDKInitializeListener {
+    void onZoomSDKInitializeResult(int errorCode, int internalErrorCode);
+
+    void onZoomAuthIdentityExpired();
+}
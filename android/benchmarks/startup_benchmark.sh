@@ -0,0 +1,45 @@
+#!/bin/sh
+# Runs StartupBenchmark for every prewarm mode, each run in a fresh JVM, and prints the medians.
+# The timings are modelled from the injected costs, see baseline/README.md for on-device runs.
+# Usage: android/benchmarks/startup_benchmark.sh [runs per mode] [engineMs initCostMs firstInitMs]
+set -e
+cd "$(dirname "$0")"
+runs=${1:-7}
+[ $# -gt 0 ] && shift
+gradle --no-daemon -q compileJmhJava
+classpath=build/classes/java/jmh:build/classes/java/main
+
+for mode in eager frame none; do
+    i=0
+    while [ "$i" -lt "$runs" ]; do
+        java -cp "$classpath" com.decodedhealth.flutter_zoom_plugin.StartupBenchmark "$mode" "$@"
+        i=$((i + 1))
+    done
+done | awk '
+    {
+        mode = substr($1, 6)
+        if (!(mode in count)) order[++modes] = mode
+        n = ++count[mode]
+        for (f = 2; f <= NF; f++) {
+            split($f, kv, "=")
+            if (!(kv[1] in seen)) { seen[kv[1]] = 1; names[++fields] = kv[1] }
+            value[mode, kv[1], n] = kv[2]
+        }
+    }
+    function median(mode, name,    n, i, j, t, a) {
+        n = count[mode]
+        for (i = 1; i <= n; i++) a[i] = value[mode, name, i] + 0
+        for (i = 2; i <= n; i++) for (j = i; j > 1 && a[j - 1] > a[j]; j--) { t = a[j]; a[j] = a[j - 1]; a[j - 1] = t }
+        return n % 2 ? a[(n + 1) / 2] : (a[n / 2] + a[n / 2 + 1]) / 2
+    }
+    END {
+        printf "%-6s", "mode"
+        for (f = 1; f <= fields; f++) printf " %13s", names[f]
+        printf "\n"
+        for (m = 1; m <= modes; m++) {
+            printf "%-6s", order[m]
+            for (f = 1; f <= fields; f++) printf " %13s", median(order[m], names[f])
+            printf "\n"
+        }
+        printf "medians of %d runs per mode\n", count[order[1]]
+    }'
@@ -0,0 +1,165 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.LongSparseArray;
+
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * This class implements the handler for the active speaker event channel.
+ *
+ * The active speaker, active video and video status callbacks can fire many times per second in
+ * large meetings. They only update the latest state here, which is sent at most once per interval
+ * (100 ms unless the listen arguments give an "intervalMs"), so a burst of callbacks costs a single
+ * message carrying the latest values.
+ *
+ * Each message is the int64 array [sequence, active speaker id, active video id, video on count,
+ * video off count], followed by the ids of the users whose video was turned on, then off, since
+ * the previous message. An id of 0 means no user.
+ */
+public class ActiveSpeakerStreamHandler implements EventChannel.StreamHandler {
+    static final long DEFAULT_INTERVAL_MS = 100;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled = false;
+            flush();
+        }
+    };
+
+    private final ZoomEventHub hub;
+    private final RosterIndex roster;
+    private final ZoomEventHub.Subscriber speakerSubscriber = new ZoomEventHub.Subscriber() {
+        @Override
+        void onActiveSpeakerVideoUserChanged(long userId) {
+            if (userId != activeSpeaker) {
+                activeSpeaker = userId;
+                changed();
+            }
+        }
+
+        @Override
+        void onActiveVideoUserChanged(long userId) {
+            if (userId != activeVideo) {
+                activeVideo = userId;
+                changed();
+            }
+        }
+
+        @Override
+        void onUserVideoStatusChanged(long userId) {
+            videoChanges.put(userId, Boolean.TRUE);
+            changed();
+        }
+
+        @Override
+        void onMeetingLeaveComplete(long ret) {
+            videoChanges.clear();
+            if (activeSpeaker != RosterIndex.NO_USER || activeVideo != RosterIndex.NO_USER) {
+                activeSpeaker = RosterIndex.NO_USER;
+                activeVideo = RosterIndex.NO_USER;
+                changed();
+            }
+        }
+    };
+
+    // the users whose video status changed since the last message, the value is unused
+    private final LongSparseArray<Boolean> videoChanges = new LongSparseArray<>();
+
+    private EventChannel.EventSink events;
+    private long intervalMs = DEFAULT_INTERVAL_MS;
+    private long activeSpeaker = RosterIndex.NO_USER;
+    private long activeVideo = RosterIndex.NO_USER;
+    private long lastSentAt;
+    private long sequence;
+    private boolean dirty;
+    private boolean flushScheduled;
+
+    public ActiveSpeakerStreamHandler(ZoomEventHub hub, RosterIndex roster) {
+        this.hub = hub;
+        this.roster = roster;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+        this.intervalMs = intervalFromArguments(arguments);
+        hub.subscribe(speakerSubscriber);
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        hub.unsubscribe(speakerSubscriber);
+        handler.removeCallbacks(flushRunnable);
+        flushScheduled = false;
+        videoChanges.clear();
+        dirty = false;
+        events = null;
+    }
+
+    private static long intervalFromArguments(Object arguments) {
+        if (arguments instanceof Map) {
+            Object interval = ((Map<?, ?>) arguments).get("intervalMs");
+            if (interval instanceof Number) {
+                return Math.max(0, ((Number) interval).longValue());
+            }
+        }
+        return DEFAULT_INTERVAL_MS;
+    }
+
+    private void changed() {
+        dirty = true;
+        if (events == null || flushScheduled) {
+            return;
+        }
+        // posted even when due, so that the roster has seen the callback before it is read
+        flushScheduled = true;
+        handler.postDelayed(flushRunnable, lastSentAt + intervalMs - SystemClock.uptimeMillis());
+    }
+
+    private void flush() {
+        if (events == null || !dirty) {
+            return;
+        }
+        dirty = false;
+        lastSentAt = SystemClock.uptimeMillis();
+        events.success(pack());
+    }
+
+    private long[] pack() {
+        int changes = videoChanges.size();
+        long[] on = new long[changes];
+        long[] off = new long[changes];
+        int onCount = 0;
+        int offCount = 0;
+        for (int i = 0; i < changes; i++) {
+            long userId = videoChanges.keyAt(i);
+            RosterIndex.Participant participant = roster.get(userId);
+            if (participant == null) {
+                continue;
+            }
+            if (participant.videoOn) {
+                on[onCount++] = userId;
+            } else {
+                off[offCount++] = userId;
+            }
+        }
+        videoChanges.clear();
+
+        long[] message = new long[5 + onCount + offCount];
+        message[0] = ++sequence;
+        message[1] = activeSpeaker;
+        message[2] = activeVideo;
+        message[3] = onCount;
+        message[4] = offCount;
+        System.arraycopy(on, 0, message, 5, onCount);
+        System.arraycopy(off, 0, message, 5 + onCount, offCount);
+        return message;
+    }
+}
@@ -0,0 +1,226 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.flutter.plugin.common.EventChannel;
+import us.zoom.sdk.ZoomAuthenticationError;
+
+/**
+ * This class owns the Zoom login session.
+ *
+ * Only one login runs at a time and every caller waiting on it receives the same result.
+ * A successful login is persisted in the encrypted preferences, so that the next cold start
+ * resumes the session with tryAutoLoginZoom as soon as the SDK is initialized.
+ * State transitions are sent on the auth event channel as [state, result code].
+ * All methods except {@link #restoreSession(Context)} must be called on the main thread.
+ */
+class AuthSessionManager extends ZoomEventHub.Subscriber implements SharedStreamHandler {
+
+    interface Callback {
+        void onLoginResult(long result);
+    }
+
+    static final String STATE_LOGGED_OUT = "LOGGED_OUT";
+    static final String STATE_LOGGING_IN = "LOGGING_IN";
+    static final String STATE_LOGGED_IN = "LOGGED_IN";
+    static final String STATE_LOGIN_FAILED = "LOGIN_FAILED";
+    static final String STATE_EXPIRED = "EXPIRED";
+
+    /** Result reported when the SDK refuses to start the login. */
+    static final long RESULT_LOGIN_NOT_STARTED = 100;
+
+    private static final String KEY_LOGGED_IN = "auth.loggedIn";
+    private static final String KEY_EMAIL = "auth.email";
+
+    private static AuthSessionManager instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Callback> waiters = new ArrayList<>();
+
+    private Context context;
+    private EventChannel.EventSink events;
+    private String state = STATE_LOGGED_OUT;
+    private String pendingEmail;
+
+    static AuthSessionManager getInstance() {
+        if (instance == null) {
+            instance = new AuthSessionManager();
+        }
+        return instance;
+    }
+
+    private AuthSessionManager() {
+    }
+
+    /**
+     * Logs in, or joins the login already in flight.
+     */
+    void login(Context context, String email, String password, Callback callback) {
+        this.context = context.getApplicationContext();
+        waiters.add(callback);
+        if (STATE_LOGGING_IN.equals(state)) {
+            return;
+        }
+
+        ZoomSdkFacade sdk = SdkProvider.get();
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        hub.attach(sdk);
+        hub.subscribe(this);
+
+        pendingEmail = email;
+        setState(STATE_LOGGING_IN, 0);
+
+        if (sdk.isLoggedIn()) {
+            sdk.tryAutoLoginZoom();
+            return;
+        }
+
+        long ret = sdk.loginWithZoom(email, password);
+        if (ret != ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS) {
+            onZoomSDKLoginResult(RESULT_LOGIN_NOT_STARTED);
+        }
+    }
+
+    void logout() {
+        if (STATE_LOGGING_IN.equals(state) && waiters.isEmpty()) {
+            // nobody waits on a session being resumed, drop it
+            setState(STATE_LOGGED_OUT, 0);
+        }
+        ZoomSdkFacade sdk = SdkProvider.get();
+        if (sdk.isLoggedIn()) {
+            ZoomEventHub hub = ZoomEventHub.getInstance();
+            hub.attach(sdk);
+            hub.subscribe(this);
+            sdk.logoutZoom();
+        }
+        persist(false, null);
+    }
+
+    /**
+     * Resumes the persisted session once the SDK is initialized. Safe to call from any thread;
+     * the keystore is read on a background thread.
+     */
+    void restoreSession(Context context) {
+        final Context appContext = context.getApplicationContext();
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SharedPreferences preferences = SecurePreferences.open(appContext);
+                if (preferences == null || !preferences.getBoolean(KEY_LOGGED_IN, false)) {
+                    return;
+                }
+                final String email = preferences.getString(KEY_EMAIL, null);
+
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        AuthSessionManager.this.context = appContext;
+                        if (STATE_LOGGING_IN.equals(state) || STATE_LOGGED_IN.equals(state)) {
+                            return;
+                        }
+                        ZoomLog.i("resuming persisted session");
+
+                        ZoomSdkFacade sdk = SdkProvider.get();
+                        ZoomEventHub hub = ZoomEventHub.getInstance();
+                        hub.attach(sdk);
+                        hub.subscribe(AuthSessionManager.this);
+
+                        pendingEmail = email;
+                        setState(STATE_LOGGING_IN, 0);
+                        if (sdk.tryAutoLoginZoom() != ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS) {
+                            onZoomSDKLoginResult(RESULT_LOGIN_NOT_STARTED);
+                        }
+                    }
+                });
+            }
+        }, "zoom-auth-restore").start();
+    }
+
+    @Override
+    void onZoomSDKLoginResult(long result) {
+        if (!STATE_LOGGING_IN.equals(state)) {
+            return;
+        }
+
+        boolean success = result == ZoomAuthenticationError.ZOOM_AUTH_ERROR_SUCCESS;
+        setState(success ? STATE_LOGGED_IN : STATE_LOGIN_FAILED, result);
+        persist(success, success ? pendingEmail : null);
+        pendingEmail = null;
+
+        List<Callback> callbacks = new ArrayList<>(waiters);
+        waiters.clear();
+        for (Callback callback : callbacks) {
+            callback.onLoginResult(result);
+        }
+    }
+
+    @Override
+    void onZoomSDKLogoutResult(long result) {
+        setState(STATE_LOGGED_OUT, result);
+    }
+
+    @Override
+    void onZoomIdentityExpired() {
+        setState(STATE_EXPIRED, 0);
+        persist(false, null);
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+        events.success(Arrays.<Object>asList(state, 0L));
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        events = null;
+    }
+
+    @Override
+    public void cancel(EventChannel.EventSink events) {
+        if (this.events == events) {
+            this.events = null;
+        }
+    }
+
+    private void setState(String state, long result) {
+        if (state.equals(this.state) && result == 0) {
+            return;
+        }
+        this.state = state;
+        if (events != null) {
+            events.success(Arrays.<Object>asList(state, result));
+        }
+    }
+
+    private void persist(final boolean loggedIn, final String email) {
+        final Context appContext = context;
+        if (appContext == null) {
+            return;
+        }
+
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SharedPreferences preferences = SecurePreferences.open(appContext);
+                if (preferences == null) {
+                    return;
+                }
+                SharedPreferences.Editor editor = preferences.edit().putBoolean(KEY_LOGGED_IN, loggedIn);
+                if (email != null) {
+                    editor.putString(KEY_EMAIL, email);
+                } else if (!loggedIn) {
+                    editor.remove(KEY_EMAIL);
+                }
+                editor.apply();
+            }
+        }, "zoom-auth-persist").start();
+    }
+}
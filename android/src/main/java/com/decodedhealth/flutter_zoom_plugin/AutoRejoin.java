@@ -0,0 +1,292 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import io.flutter.plugin.common.EventChannel;
+import us.zoom.sdk.MeetingError;
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class rejoins the last meeting natively when it is lost to a network error, once enabled
+ * from Dart.
+ *
+ * The request of the last join is kept until the meeting is left or ended, another meeting is
+ * started or entered, or the join is refused. While enabled, a MEETING_STATUS_FAILED or
+ * MEETING_STATUS_IDLE carrying a connection error, after the join or while in its meeting, starts
+ * a recovery: the request is joined again after an exponential backoff with jitter, until the
+ * meeting is reached or the retry budget is spent. Leaving or a join from Dart ends the recovery.
+ *
+ * Recovery progress is sent on the recovery event channel as maps with a "type": "attempt"
+ * (attempts, delayMs, errorCode) when an attempt is scheduled, "recovered" (attempts, recoverMs)
+ * and "exhausted" (attempts, errorCode). The time to recover is recorded in the
+ * {@link MetricsRegistry}. Main thread only.
+ */
+class AutoRejoin extends ZoomEventHub.Subscriber implements SharedStreamHandler {
+
+    /**
+     * Joins the request again, answering the MeetingError of the join call.
+     */
+    interface Rejoiner {
+        int rejoin(MeetingRequest request);
+    }
+
+    static final int DEFAULT_MAX_ATTEMPTS = 5;
+    static final long DEFAULT_BASE_DELAY_MS = 1000;
+    static final long DEFAULT_MAX_DELAY_MS = 30000;
+
+    static final String EVENT_ATTEMPT = "attempt";
+    static final String EVENT_RECOVERED = "recovered";
+    static final String EVENT_EXHAUSTED = "exhausted";
+
+    private static AutoRejoin instance;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable attemptRunnable = new Runnable() {
+        @Override
+        public void run() {
+            scheduled = false;
+            attempt();
+        }
+    };
+    private final Random random = new Random();
+
+    private EventChannel.EventSink events;
+    private Rejoiner rejoiner;
+    private ZoomSdkFacade sdk;
+    private boolean enabled;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long baseDelayMs = DEFAULT_BASE_DELAY_MS;
+    private long maxDelayMs = DEFAULT_MAX_DELAY_MS;
+
+    private MeetingRequest request;
+    // the request was joined and its meeting was not left since
+    private boolean armed;
+    private boolean scheduled;
+    private int attempts;
+    private long lostAt;
+
+    static AutoRejoin getInstance() {
+        if (instance == null) {
+            instance = new AutoRejoin();
+        }
+        return instance;
+    }
+
+    private AutoRejoin() {
+    }
+
+    void setRejoiner(Rejoiner rejoiner) {
+        this.rejoiner = rejoiner;
+    }
+
+    /**
+     * Drops the rejoiner, unless another one was set since.
+     */
+    void removeRejoiner(Rejoiner rejoiner) {
+        if (this.rejoiner == rejoiner) {
+            this.rejoiner = null;
+        }
+    }
+
+    /**
+     * Enables or disables the recovery. Disabling cancels a recovery in progress.
+     */
+    void configure(ZoomEventHub hub, ZoomSdkFacade sdk, boolean enabled, int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        this.sdk = sdk;
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMs = Math.max(0, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        if (enabled) {
+            hub.subscribe(this);
+        } else {
+            hub.unsubscribe(this);
+            endRecovery();
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Keeps the request of a join made from Dart, ending any recovery in progress.
+     */
+    void remember(MeetingRequest request) {
+        this.request = request;
+        armed = true;
+        endRecovery();
+    }
+
+    /**
+     * Forgets the last request, when a meeting is started or the SDK listeners are released.
+     */
+    void forget() {
+        request = null;
+        armed = false;
+        endRecovery();
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        events = null;
+    }
+
+    @Override
+    public void cancel(EventChannel.EventSink events) {
+        if (this.events == events) {
+            this.events = null;
+        }
+    }
+
+    @Override
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        switch (meetingStatus) {
+            case MEETING_STATUS_INMEETING:
+                if (request != null && !isRequestedMeeting()) {
+                    // entered another meeting, the request is not the one to recover
+                    forget();
+                    break;
+                }
+                armed = request != null;
+                if (lostAt != 0) {
+                    long recoverMs = SystemClock.elapsedRealtime() - lostAt;
+                    MetricsRegistry.getInstance().recordRecovery(recoverMs);
+                    send(EVENT_RECOVERED, "attempts", attempts, "recoverMs", recoverMs);
+                    ZoomLog.i("meeting recovered, attempts: ", attempts);
+                }
+                endRecovery();
+                break;
+            case MEETING_STATUS_FAILED:
+            case MEETING_STATUS_IDLE:
+                if (isConnectionError(errorCode)) {
+                    onConnectionLost(errorCode);
+                } else if (!scheduled) {
+                    if (lostAt != 0) {
+                        // an attempt was refused or the meeting ended meanwhile, Dart waits for the outcome
+                        giveUp(errorCode);
+                    }
+                    // left, ended or refused: nothing to recover
+                    forget();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    void onMeetingLeaveComplete(long ret) {
+        // a connection loss has already started the recovery
+        if (!scheduled && lostAt == 0) {
+            forget();
+        }
+    }
+
+    private boolean isRequestedMeeting() {
+        long meetingNumber = sdk != null ? sdk.getCurrentMeetingNumber() : 0;
+        return meetingNumber != 0 && request.meetingNo != null
+                && String.valueOf(meetingNumber).equals(request.meetingNo.replaceAll("[^0-9]", ""));
+    }
+
+    static boolean isConnectionError(int errorCode) {
+        switch (errorCode) {
+            case MeetingError.MEETING_ERROR_TIMEOUT:
+            case MeetingError.MEETING_ERROR_NETWORK_UNAVAILABLE:
+            case MeetingError.MEETING_ERROR_NETWORK_ERROR:
+            case MeetingError.MEETING_ERROR_MMR_ERROR:
+            case MeetingError.MEETING_ERROR_SESSION_ERROR:
+            case MeetingError.MEETING_ERROR_NO_MMR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void onConnectionLost(int errorCode) {
+        // the SDK reports FAILED then IDLE for the same loss
+        if (!enabled || !armed || request == null || rejoiner == null || scheduled) {
+            return;
+        }
+        if (lostAt == 0) {
+            lostAt = SystemClock.elapsedRealtime();
+        }
+
+        if (attempts >= maxAttempts) {
+            giveUp(errorCode);
+            return;
+        }
+
+        long delayMs = backoff(attempts);
+        attempts++;
+        scheduled = true;
+        handler.postDelayed(attemptRunnable, delayMs);
+        send(EVENT_ATTEMPT, "attempts", attempts, "delayMs", delayMs, "errorCode", errorCode);
+    }
+
+    /**
+     * Half the exponential delay plus a random part of the other half, so that clients dropped
+     * together do not retry together.
+     */
+    private long backoff(int previousAttempts) {
+        long delay = baseDelayMs << Math.min(previousAttempts, 20);
+        delay = Math.min(maxDelayMs, delay);
+        long half = delay / 2;
+        return half + (half > 0 ? (long) (random.nextDouble() * (delay - half)) : 0);
+    }
+
+    private void attempt() {
+        if (request == null || rejoiner == null) {
+            endRecovery();
+            return;
+        }
+        MetricsRegistry.getInstance().markJoinStarted();
+        int result = rejoiner.rejoin(request);
+        if (result == MeetingError.MEETING_ERROR_SUCCESS) {
+            return;
+        }
+        // the join was refused outright, no status will follow
+        if (isConnectionError(result)) {
+            onConnectionLost(result);
+        } else {
+            giveUp(result);
+        }
+    }
+
+    private void giveUp(int errorCode) {
+        send(EVENT_EXHAUSTED, "attempts", attempts, "errorCode", errorCode);
+        ZoomLog.w("meeting recovery given up, attempts: ", attempts);
+        armed = false;
+        endRecovery();
+    }
+
+    private void endRecovery() {
+        handler.removeCallbacks(attemptRunnable);
+        scheduled = false;
+        attempts = 0;
+        lostAt = 0;
+    }
+
+    private void send(String type, Object... values) {
+        if (events == null) {
+            return;
+        }
+        Map<String, Object> event = new HashMap<>();
+        event.put("type", type);
+        for (int i = 0; i + 1 < values.length; i += 2) {
+            event.put((String) values[i], values[i + 1]);
+        }
+        events.success(event);
+    }
+}
@@ -0,0 +1,21 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+/**
+ * An in-meeting chat message as received from the SDK. The receiver is RosterIndex.NO_USER for a
+ * message sent to everyone.
+ */
+final class ChatMessageInfo {
+    final long senderId;
+    final String senderName;
+    final long receiverId;
+    final String content;
+    final long time;
+
+    ChatMessageInfo(long senderId, String senderName, long receiverId, String content, long time) {
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.receiverId = receiverId;
+        this.content = content;
+        this.time = time;
+    }
+}
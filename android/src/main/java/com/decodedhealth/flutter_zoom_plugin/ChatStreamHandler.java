@@ -0,0 +1,148 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * This class implements the handler for the chat event channel.
+ *
+ * Received messages are buffered and sent in batches: a batch leaves when "maxBatch" messages
+ * (50 by default) are waiting or "intervalMs" (250 ms by default) after the first one arrived.
+ * The buffer keeps at most "capacity" messages (500 by default); beyond that the oldest ones are
+ * dropped and counted.
+ *
+ * A batch lays the messages out in parallel arrays: {"seq", "dropped" (since the previous batch),
+ * "senderIds", "senderNames", "receiverIds" (0 for everyone), "times", "contents"}.
+ */
+public class ChatStreamHandler implements EventChannel.StreamHandler {
+    static final long DEFAULT_INTERVAL_MS = 250;
+    static final int DEFAULT_MAX_BATCH = 50;
+    static final int DEFAULT_CAPACITY = 500;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled = false;
+            flush();
+        }
+    };
+
+    private final ZoomEventHub hub;
+    private final ZoomEventHub.Subscriber chatSubscriber = new ZoomEventHub.Subscriber() {
+        @Override
+        void onChatMessageReceived(ChatMessageInfo message) {
+            offer(message);
+        }
+    };
+
+    private final ArrayDeque<ChatMessageInfo> buffer = new ArrayDeque<>();
+    private EventChannel.EventSink events;
+    private long intervalMs = DEFAULT_INTERVAL_MS;
+    private int maxBatch = DEFAULT_MAX_BATCH;
+    private int capacity = DEFAULT_CAPACITY;
+    private boolean flushScheduled;
+    private long sequence;
+    private long dropped;
+
+    public ChatStreamHandler(ZoomEventHub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+        intervalMs = DEFAULT_INTERVAL_MS;
+        maxBatch = DEFAULT_MAX_BATCH;
+        capacity = DEFAULT_CAPACITY;
+        if (arguments instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) arguments;
+            if (map.get("intervalMs") instanceof Number) {
+                intervalMs = Math.max(0, ((Number) map.get("intervalMs")).longValue());
+            }
+            if (map.get("maxBatch") instanceof Number) {
+                maxBatch = Math.max(1, ((Number) map.get("maxBatch")).intValue());
+            }
+            if (map.get("capacity") instanceof Number) {
+                capacity = Math.max(maxBatch, ((Number) map.get("capacity")).intValue());
+            }
+        }
+        hub.subscribe(chatSubscriber);
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        hub.unsubscribe(chatSubscriber);
+        handler.removeCallbacks(flushRunnable);
+        flushScheduled = false;
+        buffer.clear();
+        dropped = 0;
+        events = null;
+    }
+
+    private void offer(ChatMessageInfo message) {
+        if (events == null) {
+            return;
+        }
+        if (buffer.size() >= capacity) {
+            buffer.pollFirst();
+            dropped++;
+        }
+        buffer.addLast(message);
+
+        if (buffer.size() >= maxBatch) {
+            handler.removeCallbacks(flushRunnable);
+            flushScheduled = false;
+            flush();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            handler.postDelayed(flushRunnable, intervalMs);
+        }
+    }
+
+    private void flush() {
+        if (events == null || buffer.isEmpty()) {
+            return;
+        }
+
+        int count = Math.min(maxBatch, buffer.size());
+        long[] senderIds = new long[count];
+        List<String> senderNames = new ArrayList<>(count);
+        long[] receiverIds = new long[count];
+        long[] times = new long[count];
+        List<String> contents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ChatMessageInfo message = buffer.pollFirst();
+            senderIds[i] = message.senderId;
+            senderNames.add(message.senderName);
+            receiverIds[i] = message.receiverId;
+            times[i] = message.time;
+            contents.add(message.content);
+        }
+
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("seq", ++sequence);
+        batch.put("dropped", dropped);
+        batch.put("senderIds", senderIds);
+        batch.put("senderNames", senderNames);
+        batch.put("receiverIds", receiverIds);
+        batch.put("times", times);
+        batch.put("contents", contents);
+        dropped = 0;
+        events.success(batch);
+
+        // a burst larger than a batch leaves in several, one per looper turn
+        if (!buffer.isEmpty() && !flushScheduled) {
+            flushScheduled = true;
+            handler.post(flushRunnable);
+        }
+    }
+}
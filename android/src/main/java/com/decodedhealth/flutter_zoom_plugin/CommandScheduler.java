@@ -0,0 +1,337 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * This class schedules the method channel calls.
+ *
+ * Each method is classified as:
+ * - read-only: answered right away from cached state, never waits behind other commands;
+ * - main: mutates the SDK and is queued in arrival order, and run on the main thread one command
+ *   per looper message, so reads and input are handled in between;
+ * - background-safe: its arguments are prepared on a worker thread, then it is run like a main
+ *   command. Its place in the queue is taken when it is submitted, so the order is kept.
+ *
+ * Mutations depend on the state left by the ones before them (releaseListener then join, or
+ * set_auto_rejoin then join), so they all share one priority and keep their order. Only the queued
+ * reads, which have to call the SDK on the main thread but change nothing, have a higher priority
+ * and run ahead of the mutations waiting.
+ *
+ * The SDK is not thread safe, every SDK call stays on the main thread.
+ * Queue depth and wait time are recorded per method, and the time from submission to completion
+ * goes to the method histograms of {@link MetricsRegistry}. Must be used from the main thread.
+ */
+class CommandScheduler {
+
+    enum Mode {
+        MAIN, BACKGROUND_SAFE, READ_ONLY
+    }
+
+    // queued reads, ahead of the mutations
+    static final int PRIORITY_HIGH = 0;
+    // mutations, in arrival order
+    static final int PRIORITY_NORMAL = 1;
+
+    /**
+     * A method call. Only {@link #run()} may call the SDK or reply to the caller. When
+     * {@link #prepare()} or {@link #run()} throws, the caller gets an INVALID_ARGUMENTS error
+     * instead, and the queue goes on.
+     */
+    abstract static class Command {
+        final MethodChannel.Result result;
+
+        Command(MethodChannel.Result result) {
+            this.result = result;
+        }
+
+        /**
+         * Prepares the arguments. Runs on the worker thread for background-safe methods,
+         * otherwise on the main thread just before {@link #run()}.
+         */
+        void prepare() {
+        }
+
+        abstract void run();
+    }
+
+    private static class Spec {
+        final Mode mode;
+        final int priority;
+
+        Spec(Mode mode, int priority) {
+            this.mode = mode;
+            this.priority = priority;
+        }
+    }
+
+    private static class Stats {
+        long submitted;
+        int queued;
+        int maxQueued;
+        long totalWaitMs;
+        long maxWaitMs;
+        long totalRunMs;
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        final String method;
+        final Command command;
+        final int priority;
+        final long sequence;
+        final long submittedAt;
+        final long submittedNanos;
+        volatile boolean ready;
+        // thrown by prepare() on the worker thread
+        volatile RuntimeException failure;
+
+        Entry(String method, Command command, int priority, long sequence) {
+            this.method = method;
+            this.command = command;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.submittedAt = SystemClock.uptimeMillis();
+            this.submittedNanos = System.nanoTime();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (priority != other.priority) {
+                return priority < other.priority ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+
+    private static final Spec DEFAULT_SPEC = new Spec(Mode.MAIN, PRIORITY_NORMAL);
+    private static final Map<String, Spec> SPECS = new HashMap<>();
+
+    static {
+        register("meeting_status", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_state", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_init_timings", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_status_descriptions", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_participant_names", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_participants", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_scheduler_stats", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("get_metrics", Mode.READ_ONLY, PRIORITY_HIGH);
+        register("dump_logs", Mode.READ_ONLY, PRIORITY_HIGH);
+        // touches no SDK state, applied right away
+        register("set_log_level", Mode.READ_ONLY, PRIORITY_HIGH);
+
+        // read the SDK, so they are queued, but change nothing and go ahead of the mutations
+        register("get_meeting_password", Mode.MAIN, PRIORITY_HIGH);
+        register("get_logged_account_info", Mode.MAIN, PRIORITY_HIGH);
+
+        register("in_meeting", Mode.MAIN, PRIORITY_NORMAL);
+        register("in_meeting_config", Mode.MAIN, PRIORITY_NORMAL);
+        register("in_meeting_config_batch", Mode.MAIN, PRIORITY_NORMAL);
+        register("set_video_policy", Mode.MAIN, PRIORITY_NORMAL);
+        register("start_quality_sampler", Mode.MAIN, PRIORITY_NORMAL);
+        register("set_auto_rejoin", Mode.MAIN, PRIORITY_NORMAL);
+        register("send_chat_batch", Mode.MAIN, PRIORITY_NORMAL);
+        register("stop_quality_sampler", Mode.MAIN, PRIORITY_NORMAL);
+
+        register("join", Mode.BACKGROUND_SAFE, PRIORITY_NORMAL);
+        register("start_instant_meeting", Mode.BACKGROUND_SAFE, PRIORITY_NORMAL);
+        register("prepare_join", Mode.BACKGROUND_SAFE, PRIORITY_NORMAL);
+
+        register("releaseListener", Mode.MAIN, PRIORITY_NORMAL);
+    }
+
+    private static CommandScheduler instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Map<String, Stats> stats = new HashMap<>();
+    private final Runnable drainCallback = new Runnable() {
+        @Override
+        public void run() {
+            drainScheduled = false;
+            runNext();
+        }
+    };
+
+    private Handler workerHandler;
+    private boolean drainScheduled;
+    private long sequence;
+    private int maxQueueDepth;
+
+    static CommandScheduler getInstance() {
+        if (instance == null) {
+            instance = new CommandScheduler();
+        }
+        return instance;
+    }
+
+    private CommandScheduler() {
+    }
+
+    private static void register(String method, Mode mode, int priority) {
+        SPECS.put(method, new Spec(mode, priority));
+    }
+
+    static Mode getMode(String method) {
+        return spec(method).mode;
+    }
+
+    private static Spec spec(String method) {
+        Spec spec = SPECS.get(method);
+        return spec != null ? spec : DEFAULT_SPEC;
+    }
+
+    void submit(String method, Command command) {
+        Spec spec = spec(method);
+        Stats methodStats = stats(method);
+        methodStats.submitted++;
+
+        if (spec.mode == Mode.READ_ONLY) {
+            long startedAt = System.nanoTime();
+            try {
+                command.prepare();
+                command.run();
+            } catch (RuntimeException e) {
+                fail(method, command, e);
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            methodStats.totalRunMs += elapsed / 1000000;
+            MetricsRegistry.getInstance().recordMethod(method, elapsed);
+            return;
+        }
+
+        final Entry entry = new Entry(method, command, spec.priority, ++sequence);
+        queue.add(entry);
+        methodStats.queued++;
+        methodStats.maxQueued = Math.max(methodStats.maxQueued, methodStats.queued);
+        maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+
+        if (spec.mode == Mode.BACKGROUND_SAFE) {
+            worker().post(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        entry.command.prepare();
+                    } catch (RuntimeException e) {
+                        entry.failure = e;
+                    }
+                    mainHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            entry.ready = true;
+                            scheduleDrain();
+                        }
+                    });
+                }
+            });
+        } else {
+            entry.ready = true;
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Queue depth and wait times, overall and per method.
+     */
+    Map<String, Object> getStats() {
+        Map<String, Object> methods = new HashMap<>();
+        for (Map.Entry<String, Stats> item : stats.entrySet()) {
+            Stats methodStats = item.getValue();
+            long ran = methodStats.submitted - methodStats.queued;
+            Spec spec = spec(item.getKey());
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("mode", spec.mode.name());
+            values.put("priority", spec.priority);
+            values.put("submitted", methodStats.submitted);
+            values.put("queued", methodStats.queued);
+            values.put("maxQueued", methodStats.maxQueued);
+            values.put("avgWaitMs", ran > 0 ? methodStats.totalWaitMs / ran : 0);
+            values.put("maxWaitMs", methodStats.maxWaitMs);
+            values.put("avgRunMs", ran > 0 ? methodStats.totalRunMs / ran : 0);
+            methods.put(item.getKey(), values);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("queueDepth", queue.size());
+        result.put("maxQueueDepth", maxQueueDepth);
+        result.put("methods", methods);
+        return result;
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        mainHandler.post(drainCallback);
+    }
+
+    private void runNext() {
+        Entry entry = queue.peek();
+        if (entry == null || !entry.ready) {
+            // an unprepared head is drained again once it is ready
+            return;
+        }
+        queue.poll();
+
+        Stats methodStats = stats(entry.method);
+        methodStats.queued--;
+        long startedAt = SystemClock.uptimeMillis();
+        long waitMs = startedAt - entry.submittedAt;
+        methodStats.totalWaitMs += waitMs;
+        methodStats.maxWaitMs = Math.max(methodStats.maxWaitMs, waitMs);
+
+        try {
+            if (entry.failure != null) {
+                throw entry.failure;
+            }
+            if (getMode(entry.method) != Mode.BACKGROUND_SAFE) {
+                entry.command.prepare();
+            }
+            entry.command.run();
+        } catch (RuntimeException e) {
+            fail(entry.method, entry.command, e);
+        } finally {
+            methodStats.totalRunMs += SystemClock.uptimeMillis() - startedAt;
+            MetricsRegistry.getInstance().recordMethod(entry.method, System.nanoTime() - entry.submittedNanos);
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private static void fail(String method, Command command, RuntimeException e) {
+        ZoomLog.e("method failed: " + method + ": " + e);
+        try {
+            command.result.error("INVALID_ARGUMENTS", e.getMessage(), null);
+        } catch (IllegalStateException alreadyReplied) {
+            // the command replied before throwing
+        }
+    }
+
+    private Stats stats(String method) {
+        Stats methodStats = stats.get(method);
+        if (methodStats == null) {
+            methodStats = new Stats();
+            stats.put(method, methodStats);
+        }
+        return methodStats;
+    }
+
+    private Handler worker() {
+        if (workerHandler == null) {
+            HandlerThread thread = new HandlerThread("zoom-command");
+            thread.start();
+            workerHandler = new Handler(thread.getLooper());
+        }
+        return workerHandler;
+    }
+}
@@ -1,12 +1,70 @@
 package com.decodedhealth.flutter_zoom_plugin;
 
+import io.flutter.embedding.engine.plugins.FlutterPlugin;
+import io.flutter.embedding.engine.plugins.activity.ActivityAware;
+import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.PluginRegistry.Registrar;
 
 /** FlutterZoomPlugin */
-public class FlutterZoomPlugin {
+public class FlutterZoomPlugin implements FlutterPlugin, ActivityAware {
 
-  /** Plugin registration. */
+  /** Initialize the SDK with the last "init" parameters as soon as the plugin attaches. */
+  public static final int PREWARM_EAGER = SdkInitCoordinator.PREWARM_EAGER;
+  /** Initialize the SDK with the last "init" parameters once the first frame is drawn. The default. */
+  public static final int PREWARM_AFTER_FIRST_FRAME = SdkInitCoordinator.PREWARM_AFTER_FIRST_FRAME;
+  /** Load nothing before the first "init": no keystore read, no SDK native libraries. */
+  public static final int PREWARM_NONE = SdkInitCoordinator.PREWARM_NONE;
+
+  private static int prewarmMode = PREWARM_AFTER_FIRST_FRAME;
+
+  private ZoomChannelHandler handler;
+
+  /**
+   * Sets when the SDK is initialized ahead of the first "init". Call it before the plugin is
+   * registered, e.g. in Application.onCreate.
+   */
+  public static void setPrewarmMode(int mode) {
+    prewarmMode = mode;
+  }
+
+  /** Plugin registration for the v1 embedding. */
   public static void registerWith(Registrar registrar) {
-    registrar.platformViewRegistry().registerViewFactory("flutter_zoom_plugin", new ZoomViewFactory(registrar.messenger()));
+    SdkInitCoordinator.getInstance().prewarm(registrar.context(), prewarmMode);
+    ZoomChannelHandler handler = new ZoomChannelHandler(registrar.context(), registrar.messenger());
+    handler.setActivity(registrar.activity());
+    registrar.platformViewRegistry().registerViewFactory("flutter_zoom_plugin", new ZoomViewFactory());
+  }
+
+  @Override
+  public void onAttachedToEngine(FlutterPluginBinding binding) {
+    SdkInitCoordinator.getInstance().prewarm(binding.getApplicationContext(), prewarmMode);
+    handler = new ZoomChannelHandler(binding.getApplicationContext(), binding.getBinaryMessenger());
+    binding.getPlatformViewRegistry().registerViewFactory("flutter_zoom_plugin", new ZoomViewFactory());
+  }
+
+  @Override
+  public void onDetachedFromEngine(FlutterPluginBinding binding) {
+    handler.dispose();
+    handler = null;
+  }
+
+  @Override
+  public void onAttachedToActivity(ActivityPluginBinding binding) {
+    handler.setActivity(binding.getActivity());
+  }
+
+  @Override
+  public void onDetachedFromActivityForConfigChanges() {
+    handler.setActivity(null);
+  }
+
+  @Override
+  public void onReattachedToActivityForConfigChanges(ActivityPluginBinding binding) {
+    handler.setActivity(binding.getActivity());
+  }
+
+  @Override
+  public void onDetachedFromActivity() {
+    handler.setActivity(null);
   }
 }
@@ -0,0 +1,160 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class runs an ordered batch of in-meeting configuration operations.
+ *
+ * A batch is a flat list of operation code / argument pairs. Each operation gets one entry in
+ * the result vector: a non-negative MobileRTCSDKError ordinal (0 is success), or one of the
+ * negative RESULT_ codes below.
+ */
+class InMeetingConfigBatch {
+    static final int OP_SET_MEETING_TOPIC = 0;
+    static final int OP_CHANGE_NAME = 1;
+    static final int OP_ALLOW_PARTICIPANTS_TO_RENAME = 2;
+    static final int OP_ALLOW_PARTICIPANTS_TO_UNMUTE_SELF = 3;
+    static final int OP_MUTE_MY_AUDIO = 4;
+    static final int OP_MUTE_MY_VIDEO = 5;
+    static final int OP_PIN_HOST = 6;
+    static final int OP_SPOTLIGHT_HOST = 7;
+
+    static final int RESULT_SUCCESS = 0;
+    static final int RESULT_FAILED = -1;
+    static final int RESULT_SKIPPED = -2;
+    static final int RESULT_UNKNOWN_OPERATION = -3;
+    static final int RESULT_NOT_IN_MEETING = -4;
+    static final int RESULT_HOST_NOT_FOUND = -5;
+
+    private InMeetingConfigBatch() {
+    }
+
+    /**
+     * Runs the operations in order, against a single in-meeting session. When stopOnFailure is set,
+     * the operations after the first failure are not run and report RESULT_SKIPPED.
+     */
+    static int[] run(ZoomSdkFacade sdk, List<?> operations, boolean stopOnFailure) {
+        int count = operations.size() / 2;
+        int[] results = new int[count];
+
+        ZoomSdkFacade.InMeetingSession session = sdk.openInMeetingSession();
+        if (session == null) {
+            for (int i = 0; i < count; i++) {
+                results[i] = RESULT_NOT_IN_MEETING;
+            }
+            return results;
+        }
+
+        boolean failed = false;
+
+        for (int i = 0; i < count; i++) {
+            if (failed && stopOnFailure) {
+                results[i] = RESULT_SKIPPED;
+                continue;
+            }
+
+            int op = ((Number) operations.get(2 * i)).intValue();
+            Object arg = operations.get(2 * i + 1);
+
+            switch (op) {
+                case OP_SET_MEETING_TOPIC:
+                    results[i] = session.setMeetingTopic((String) arg);
+                    break;
+                case OP_CHANGE_NAME:
+                    results[i] = session.changeName((String) arg, session.getMyUserId());
+                    break;
+                case OP_ALLOW_PARTICIPANTS_TO_RENAME:
+                    results[i] = session.allowParticipantsToRename(toBoolean(arg));
+                    break;
+                case OP_ALLOW_PARTICIPANTS_TO_UNMUTE_SELF:
+                    results[i] = session.allowParticipantsToUnmuteSelf(toBoolean(arg));
+                    break;
+                case OP_MUTE_MY_AUDIO:
+                    results[i] = session.muteMyAudio(toBoolean(arg));
+                    break;
+                case OP_MUTE_MY_VIDEO:
+                    results[i] = session.muteMyVideo(toBoolean(arg));
+                    break;
+                case OP_PIN_HOST:
+                    results[i] = pinHost(session, toBoolean(arg));
+                    break;
+                case OP_SPOTLIGHT_HOST:
+                    results[i] = spotlightHost(session, toBoolean(arg));
+                    break;
+                default:
+                    results[i] = RESULT_UNKNOWN_OPERATION;
+                    break;
+            }
+
+            failed |= results[i] != RESULT_SUCCESS;
+        }
+
+        return results;
+    }
+
+    /**
+     * Translates the legacy in_meeting_config map, where "-1" marks a setting left unchanged.
+     */
+    static List<Object> fromLegacyOptions(Map<String, String> options) {
+        List<Object> operations = new ArrayList<>();
+        addIfSet(operations, OP_SET_MEETING_TOPIC, options.get("setMeetingTopic"), false);
+        addIfSet(operations, OP_CHANGE_NAME, options.get("changeName"), false);
+        addIfSet(operations, OP_ALLOW_PARTICIPANTS_TO_RENAME, options.get("allowParticipantsToRename"), true);
+        addIfSet(operations, OP_ALLOW_PARTICIPANTS_TO_UNMUTE_SELF, options.get("allowParticipantsToUnmuteSelf"), true);
+        addIfSet(operations, OP_MUTE_MY_AUDIO, options.get("muteMyAudio"), true);
+        addIfSet(operations, OP_MUTE_MY_VIDEO, options.get("muteMyVideo"), true);
+
+        if (Boolean.parseBoolean(options.get("shouldPinHost"))) {
+            operations.add(OP_PIN_HOST);
+            operations.add(true);
+        }
+        if (Boolean.parseBoolean(options.get("shouldSpotlightHost"))) {
+            operations.add(OP_SPOTLIGHT_HOST);
+            operations.add(true);
+        }
+        return operations;
+    }
+
+    private static void addIfSet(List<Object> operations, int op, String value, boolean isBoolean) {
+        if (value == null || value.equals("-1")) {
+            return;
+        }
+        operations.add(op);
+        operations.add(isBoolean ? (Object) Boolean.parseBoolean(value) : value);
+    }
+
+    private static int pinHost(ZoomSdkFacade.InMeetingSession session, boolean pin) {
+        long hostId = RosterIndex.getInstance().getHostId();
+        if (hostId == RosterIndex.NO_USER) {
+            return RESULT_HOST_NOT_FOUND;
+        }
+        return session.pinVideo(pin, hostId);
+    }
+
+    private static int spotlightHost(ZoomSdkFacade.InMeetingSession session, boolean spotlight) {
+        long hostId = RosterIndex.getInstance().getHostId();
+        if (hostId == RosterIndex.NO_USER) {
+            return RESULT_HOST_NOT_FOUND;
+        }
+        return session.spotlightVideo(spotlight, hostId);
+    }
+
+    private static boolean toBoolean(Object arg) {
+        return arg instanceof Boolean ? (Boolean) arg : Boolean.parseBoolean(String.valueOf(arg));
+    }
+
+    /**
+     * SDK calls answer either a boolean or a MobileRTCSDKError depending on the method.
+     */
+    static int toResult(Object ret) {
+        if (ret instanceof Boolean) {
+            return (Boolean) ret ? RESULT_SUCCESS : RESULT_FAILED;
+        }
+        if (ret instanceof Enum) {
+            return ((Enum<?>) ret).ordinal();
+        }
+        return RESULT_FAILED;
+    }
+}
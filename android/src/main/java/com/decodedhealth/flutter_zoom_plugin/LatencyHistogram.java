@@ -0,0 +1,83 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class counts durations in power-of-two buckets of microseconds.
+ *
+ * Recording is lock-free and allocates nothing, so it can be called from any thread on hot paths.
+ * Percentiles are reported as the upper bound of their bucket, at most twice the real value,
+ * which is enough to follow p50/p99 from one release to the next.
+ */
+class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    void recordMillis(long millis) {
+        recordNanos(millis * 1000000L);
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Count, mean, p50, p90, p99 and max, durations in milliseconds.
+     */
+    Map<String, Object> toMap() {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        long max = maxMicros.get();
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("count", total);
+        values.put("meanMs", total > 0 ? totalMicros.get() / (double) total / 1000 : 0d);
+        values.put("p50Ms", percentile(snapshot, total, 0.50, max) / 1000d);
+        values.put("p90Ms", percentile(snapshot, total, 0.90, max) / 1000d);
+        values.put("p99Ms", percentile(snapshot, total, 0.99, max) / 1000d);
+        values.put("maxMs", max / 1000d);
+        return values;
+    }
+
+    private static long percentile(long[] snapshot, long total, double fraction, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                long upperBound = i == 0 ? 0 : (1L << i) - 1;
+                return Math.min(upperBound, max);
+            }
+        }
+        return max;
+    }
+}
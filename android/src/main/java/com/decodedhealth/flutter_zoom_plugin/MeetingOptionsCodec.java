@@ -0,0 +1,102 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * This class decodes the meeting options sent by the Dart side, either as the packed binary
+ * layout written by ZoomMeetingOptionAll.toOptionBytes or as the legacy string map.
+ *
+ * Binary layout (big endian): version byte, flags int, inviteOptions int, meetingViewsOptions int,
+ * then displayName, meetingNo, password, customMeetingId, participantId and langCode, each as a
+ * short byte length (-1 for null, at most 32767) followed by the UTF-8 bytes. Any other negative
+ * length is rejected rather than read as null, so that an overflowed prefix cannot shift the
+ * fields decoded after it.
+ */
+class MeetingOptionsCodec {
+    static final byte VERSION = 1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private MeetingOptionsCodec() {
+    }
+
+    /**
+     * Returns null when the payload was written with an unsupported version, so that the caller
+     * can tell the Dart side to fall back to the map arguments.
+     */
+    static MeetingRequest decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        try {
+            if (buffer.get() != VERSION) {
+                return null;
+            }
+
+            MeetingRequest request = new MeetingRequest();
+            request.flags = buffer.getInt();
+            request.inviteOptions = buffer.getInt();
+            request.meetingViewsOptions = buffer.getInt();
+            request.displayName = readString(buffer);
+            request.meetingNo = readString(buffer);
+            request.password = readString(buffer);
+            request.customMeetingId = readString(buffer);
+            request.participantId = readString(buffer);
+            request.langCode = readString(buffer);
+            return request;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated meeting options", e);
+        }
+    }
+
+    static MeetingRequest fromMap(Map<String, String> options) {
+        MeetingRequest request = new MeetingRequest();
+        request.flags = flag(options, "noBottomToolbar", MeetingRequest.NO_BOTTOM_TOOLBAR)
+                | flag(options, "noChatMsgToast", MeetingRequest.NO_CHAT_MSG_TOAST)
+                | flag(options, "noDialInViaPhone", MeetingRequest.NO_DIAL_IN_VIA_PHONE)
+                | flag(options, "noDialOutToPhone", MeetingRequest.NO_DIAL_OUT_TO_PHONE)
+                | flag(options, "noDisconnectAudio", MeetingRequest.NO_DISCONNECT_AUDIO)
+                | flag(options, "noDrivingMode", MeetingRequest.NO_DRIVING_MODE)
+                | flag(options, "noInvite", MeetingRequest.NO_INVITE)
+                | flag(options, "noMeetingEndMessage", MeetingRequest.NO_MEETING_END_MESSAGE)
+                | flag(options, "noMeetingErrorMessage", MeetingRequest.NO_MEETING_ERROR_MESSAGE)
+                | flag(options, "noShare", MeetingRequest.NO_SHARE)
+                | flag(options, "noTitlebar", MeetingRequest.NO_TITLEBAR)
+                | flag(options, "noUnmuteConfirmDialog", MeetingRequest.NO_UNMUTE_CONFIRM_DIALOG)
+                | flag(options, "noVideo", MeetingRequest.NO_VIDEO)
+                | flag(options, "noWebinarRegisterDialog", MeetingRequest.NO_WEBINAR_REGISTER_DIALOG)
+                | flag(options, "noAudio", MeetingRequest.NO_AUDIO);
+        request.inviteOptions = Integer.parseInt(options.get("inviteOptions"));
+        request.meetingViewsOptions = Integer.parseInt(options.get("meetingViewsOptions"));
+        request.displayName = options.get("displayName");
+        request.meetingNo = options.get("meetingNo");
+        request.password = options.get("password");
+        request.customMeetingId = options.get("customMeetingId");
+        request.participantId = options.get("participantId");
+        request.langCode = options.get("langCode");
+        return request;
+    }
+
+    private static int flag(Map<String, String> options, String property, int flag) {
+        return Boolean.parseBoolean(options.get(property)) ? flag : 0;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid meeting option length " + length);
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        String value = new String(buffer.array(), buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,99 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.Arrays;
+
+import us.zoom.sdk.JoinMeetingParams;
+import us.zoom.sdk.MeetingOptions;
+
+/**
+ * This class holds the decoded arguments of a join or start meeting call
+ */
+class MeetingRequest {
+    static final int NO_BOTTOM_TOOLBAR = 1;
+    static final int NO_CHAT_MSG_TOAST = 1 << 1;
+    static final int NO_DIAL_IN_VIA_PHONE = 1 << 2;
+    static final int NO_DIAL_OUT_TO_PHONE = 1 << 3;
+    static final int NO_DISCONNECT_AUDIO = 1 << 4;
+    static final int NO_DRIVING_MODE = 1 << 5;
+    static final int NO_INVITE = 1 << 6;
+    static final int NO_MEETING_END_MESSAGE = 1 << 7;
+    static final int NO_MEETING_ERROR_MESSAGE = 1 << 8;
+    static final int NO_SHARE = 1 << 9;
+    static final int NO_TITLEBAR = 1 << 10;
+    static final int NO_UNMUTE_CONFIRM_DIALOG = 1 << 11;
+    static final int NO_VIDEO = 1 << 12;
+    static final int NO_WEBINAR_REGISTER_DIALOG = 1 << 13;
+    static final int NO_AUDIO = 1 << 14;
+
+    int flags;
+    int inviteOptions;
+    int meetingViewsOptions;
+
+    String displayName;
+    String meetingNo;
+    String password;
+    String customMeetingId;
+    String participantId;
+    String langCode;
+
+    boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * Copies the options shared by JoinMeetingOptions and StartMeetingOptions.
+     */
+    void applyTo(MeetingOptions opts) {
+        opts.custom_meeting_id = customMeetingId;
+        opts.invite_options = inviteOptions;
+        opts.meeting_views_options = meetingViewsOptions;
+        opts.no_bottom_toolbar = has(NO_BOTTOM_TOOLBAR);
+        opts.no_chat_msg_toast = has(NO_CHAT_MSG_TOAST);
+        opts.no_dial_in_via_phone = has(NO_DIAL_IN_VIA_PHONE);
+        opts.no_dial_out_to_phone = has(NO_DIAL_OUT_TO_PHONE);
+        opts.no_disconnect_audio = has(NO_DISCONNECT_AUDIO);
+        opts.no_driving_mode = has(NO_DRIVING_MODE);
+        opts.no_invite = has(NO_INVITE);
+        opts.no_meeting_end_message = has(NO_MEETING_END_MESSAGE);
+        opts.no_meeting_error_message = has(NO_MEETING_ERROR_MESSAGE);
+        opts.no_share = has(NO_SHARE);
+        opts.no_titlebar = has(NO_TITLEBAR);
+        opts.no_unmute_confirm_dialog = has(NO_UNMUTE_CONFIRM_DIALOG);
+        opts.no_video = has(NO_VIDEO);
+        opts.no_webinar_register_dialog = has(NO_WEBINAR_REGISTER_DIALOG);
+        opts.customer_key = participantId;
+        opts.no_audio = has(NO_AUDIO);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MeetingRequest)) {
+            return false;
+        }
+        MeetingRequest other = (MeetingRequest) o;
+        return flags == other.flags
+                && inviteOptions == other.inviteOptions
+                && meetingViewsOptions == other.meetingViewsOptions
+                && Arrays.equals(strings(), other.strings());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * flags + inviteOptions) + meetingViewsOptions) + Arrays.hashCode(strings());
+    }
+
+    private String[] strings() {
+        return new String[]{displayName, meetingNo, password, customMeetingId, participantId, langCode};
+    }
+
+    JoinMeetingParams toJoinParams() {
+        JoinMeetingParams params = new JoinMeetingParams();
+        params.displayName = displayName;
+        params.meetingNo = meetingNo;
+        params.password = password;
+        return params;
+    }
+}
@@ -0,0 +1,106 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.SystemClock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class is an immutable view of the meeting state as last reported by the SDK callbacks.
+ *
+ * The replies sent for meeting_status and get_state are built once per snapshot, so answering a
+ * poll allocates nothing. Changes produce a new snapshot through the with methods.
+ */
+final class MeetingStateSnapshot {
+
+    static final MeetingStateSnapshot EMPTY = new MeetingStateSnapshot(
+            null, 0, 0, 0, RosterIndex.NO_USER, RosterIndex.NO_USER, true, false, 0);
+
+    /** Null until the first status is known. */
+    final MeetingStatus status;
+    final int errorCode;
+    final int internalErrorCode;
+    final long meetingNumber;
+    final long myUserId;
+    final long hostId;
+    final boolean audioMuted;
+    final boolean videoOn;
+    final long version;
+    final long updatedAt;
+
+    /** The [name, description] pair answered by meeting_status. */
+    final List<String> statusReply;
+    final Map<String, Object> stateReply;
+
+    private MeetingStateSnapshot(MeetingStatus status, int errorCode, int internalErrorCode, long meetingNumber,
+                                 long myUserId, long hostId, boolean audioMuted, boolean videoOn, long version) {
+        this.status = status;
+        this.errorCode = errorCode;
+        this.internalErrorCode = internalErrorCode;
+        this.meetingNumber = meetingNumber;
+        this.myUserId = myUserId;
+        this.hostId = hostId;
+        this.audioMuted = audioMuted;
+        this.videoOn = videoOn;
+        this.version = version;
+        this.updatedAt = SystemClock.elapsedRealtime();
+
+        String statusName = status != null ? status.name() : "MEETING_STATUS_UNKNOWN";
+        statusReply = Collections.unmodifiableList(Arrays.asList(statusName, status != null ? "" : "No status available"));
+
+        Map<String, Object> state = new HashMap<>();
+        state.put("status", statusName);
+        state.put("errorCode", errorCode);
+        state.put("internalErrorCode", internalErrorCode);
+        state.put("meetingNumber", meetingNumber);
+        state.put("myUserId", myUserId);
+        state.put("hostId", hostId);
+        state.put("audioMuted", audioMuted);
+        state.put("videoOn", videoOn);
+        state.put("version", version);
+        state.put("updatedAt", updatedAt);
+        stateReply = Collections.unmodifiableMap(state);
+    }
+
+    MeetingStateSnapshot withStatus(MeetingStatus status, int errorCode, int internalErrorCode) {
+        return new MeetingStateSnapshot(status, errorCode, internalErrorCode, meetingNumber,
+                myUserId, hostId, audioMuted, videoOn, version + 1);
+    }
+
+    MeetingStateSnapshot withMeeting(long meetingNumber, long myUserId) {
+        if (meetingNumber == this.meetingNumber && myUserId == this.myUserId) {
+            return this;
+        }
+        return new MeetingStateSnapshot(status, errorCode, internalErrorCode, meetingNumber,
+                myUserId, hostId, audioMuted, videoOn, version + 1);
+    }
+
+    MeetingStateSnapshot withHost(long hostId) {
+        if (hostId == this.hostId) {
+            return this;
+        }
+        return new MeetingStateSnapshot(status, errorCode, internalErrorCode, meetingNumber,
+                myUserId, hostId, audioMuted, videoOn, version + 1);
+    }
+
+    MeetingStateSnapshot withMedia(boolean audioMuted, boolean videoOn) {
+        if (audioMuted == this.audioMuted && videoOn == this.videoOn) {
+            return this;
+        }
+        return new MeetingStateSnapshot(status, errorCode, internalErrorCode, meetingNumber,
+                myUserId, hostId, audioMuted, videoOn, version + 1);
+    }
+
+    /**
+     * The state after leaving a meeting: the status is kept, everything about the meeting is not.
+     */
+    MeetingStateSnapshot withoutMeeting() {
+        return new MeetingStateSnapshot(status, errorCode, internalErrorCode, 0,
+                RosterIndex.NO_USER, RosterIndex.NO_USER, true, false, version + 1);
+    }
+}
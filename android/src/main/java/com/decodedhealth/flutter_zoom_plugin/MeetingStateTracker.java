@@ -0,0 +1,133 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.List;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class maintains the {@link MeetingStateSnapshot} from the callbacks relayed by the
+ * {@link ZoomEventHub}.
+ *
+ * The SDK is only queried when a callback changes what it would answer (entering a meeting, the
+ * local user's audio or video changing), never when the state is read. The host is the one of the
+ * {@link RosterIndex}, taken when a meeting is entered and whenever the roster reports a join, a
+ * role change, a leave or a reset, so get_state and get_participants agree. Snapshots are written
+ * on the main thread and published through a volatile field, so they can be read from any thread
+ * without locking.
+ */
+class MeetingStateTracker extends ZoomEventHub.Subscriber implements RosterIndex.Observer {
+
+    private static MeetingStateTracker instance;
+
+    private volatile MeetingStateSnapshot snapshot = MeetingStateSnapshot.EMPTY;
+    private final RosterIndex roster = RosterIndex.getInstance();
+    private ZoomSdkFacade sdk;
+
+    static MeetingStateTracker getInstance() {
+        if (instance == null) {
+            instance = new MeetingStateTracker();
+        }
+        return instance;
+    }
+
+    private MeetingStateTracker() {
+    }
+
+    /**
+     * Starts tracking, seeded once from the current SDK state. The roster must be attached first.
+     */
+    void attach(ZoomEventHub hub, ZoomSdkFacade sdk) {
+        if (sdk == null || this.sdk == sdk) {
+            return;
+        }
+        this.sdk = sdk;
+        hub.subscribe(this);
+        roster.addObserver(this);
+
+        MeetingStatus status = sdk.getMeetingStatus();
+        if (status != null) {
+            onMeetingStatusChanged(status, 0, 0);
+        }
+    }
+
+    void detach(ZoomEventHub hub) {
+        hub.unsubscribe(this);
+        roster.removeObserver(this);
+        sdk = null;
+        snapshot = MeetingStateSnapshot.EMPTY;
+    }
+
+    MeetingStateSnapshot get() {
+        return snapshot;
+    }
+
+    @Override
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        MeetingStateSnapshot next = snapshot.withStatus(meetingStatus, errorCode, internalErrorCode);
+        switch (meetingStatus) {
+            case MEETING_STATUS_INMEETING:
+                next = next.withMeeting(sdk.getCurrentMeetingNumber(), sdk.getMyUserId());
+                next = withMyMedia(next);
+                // seeds the roster if no callback did yet
+                next = next.withHost(roster.getHostId());
+                break;
+            case MEETING_STATUS_IDLE:
+            case MEETING_STATUS_FAILED:
+                next = next.withoutMeeting();
+                break;
+            default:
+                break;
+        }
+        snapshot = next;
+    }
+
+    @Override
+    void onMeetingUserJoin(List<Long> userList) {
+        MeetingStateSnapshot next = snapshot;
+        if (next.myUserId == RosterIndex.NO_USER) {
+            next = withMyMedia(next.withMeeting(sdk.getCurrentMeetingNumber(), sdk.getMyUserId()));
+        }
+        snapshot = next;
+    }
+
+    @Override
+    void onUserAudioStatusChanged(long userId) {
+        if (userId == snapshot.myUserId) {
+            snapshot = withMyMedia(snapshot);
+        }
+    }
+
+    @Override
+    void onUserVideoStatusChanged(long userId) {
+        if (userId == snapshot.myUserId) {
+            snapshot = withMyMedia(snapshot);
+        }
+    }
+
+    @Override
+    void onMeetingLeaveComplete(long ret) {
+        snapshot = snapshot.withoutMeeting();
+    }
+
+    @Override
+    public void onRosterReset() {
+        // the roster is also reset when a meeting ends, it must not be seeded again then
+        boolean inMeeting = sdk != null && sdk.getMeetingStatus() == MeetingStatus.MEETING_STATUS_INMEETING;
+        snapshot = snapshot.withHost(inMeeting ? roster.getHostId() : RosterIndex.NO_USER);
+    }
+
+    @Override
+    public void onParticipantChanged(long userId, int change) {
+        if ((change & (RosterIndex.CHANGE_JOINED | RosterIndex.CHANGE_ROLE | RosterIndex.CHANGE_LEFT)) != 0) {
+            snapshot = snapshot.withHost(roster.getHostId());
+        }
+    }
+
+    private MeetingStateSnapshot withMyMedia(MeetingStateSnapshot state) {
+        if (state.myUserId == RosterIndex.NO_USER) {
+            return state;
+        }
+        ParticipantInfo me = sdk.getParticipant(state.myUserId);
+        return me != null ? state.withMedia(me.audioMuted, me.videoOn) : state;
+    }
+}
@@ -0,0 +1,127 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class keeps the latency histograms of the plugin:
+ * - per method, from the call being received to its command having run;
+ * - per status transition, the time spent in the previous status;
+ * - from joinMeetingWithParams to the first MEETING_STATUS_INMEETING;
+ * - from MEETING_STATUS_RECONNECTING back to MEETING_STATUS_INMEETING;
+ * - from a meeting lost to a connection error back to the meeting, through {@link AutoRejoin}.
+ *
+ * Status callbacks are received on the main thread, method timings may be recorded from any thread.
+ */
+class MetricsRegistry extends ZoomEventHub.Subscriber {
+
+    private static MetricsRegistry instance;
+
+    private final ConcurrentHashMap<String, LatencyHistogram> methods = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> transitions = new ConcurrentHashMap<>();
+    private final LatencyHistogram joinToInMeeting = new LatencyHistogram();
+    private final LatencyHistogram reconnect = new LatencyHistogram();
+    private final LatencyHistogram recover = new LatencyHistogram();
+
+    private MeetingStatus lastStatus;
+    private long lastStatusAt;
+    private long joinStartedAt;
+    private long reconnectStartedAt;
+
+    static MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+            ZoomEventHub.getInstance().subscribe(instance);
+        }
+        return instance;
+    }
+
+    private MetricsRegistry() {
+    }
+
+    void recordMethod(String method, long nanos) {
+        histogram(methods, method).recordNanos(nanos);
+    }
+
+    /**
+     * Marks the join request, the next MEETING_STATUS_INMEETING completes it.
+     */
+    void markJoinStarted() {
+        joinStartedAt = SystemClock.elapsedRealtime();
+    }
+
+    void recordRecovery(long millis) {
+        recover.recordMillis(millis);
+    }
+
+    @Override
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        long now = SystemClock.elapsedRealtime();
+
+        if (lastStatus != null && lastStatus != meetingStatus) {
+            histogram(transitions, lastStatus.name() + ">" + meetingStatus.name()).recordMillis(now - lastStatusAt);
+        }
+        if (lastStatus != meetingStatus) {
+            lastStatus = meetingStatus;
+            lastStatusAt = now;
+        }
+
+        if (meetingStatus == MeetingStatus.MEETING_STATUS_RECONNECTING) {
+            if (reconnectStartedAt == 0) {
+                reconnectStartedAt = now;
+            }
+        } else if (meetingStatus == MeetingStatus.MEETING_STATUS_INMEETING) {
+            if (joinStartedAt != 0) {
+                joinToInMeeting.recordMillis(now - joinStartedAt);
+                joinStartedAt = 0;
+            }
+            if (reconnectStartedAt != 0) {
+                reconnect.recordMillis(now - reconnectStartedAt);
+                reconnectStartedAt = 0;
+            }
+        } else if (StatusEventQueue.isTerminal(meetingStatus)) {
+            joinStartedAt = 0;
+            reconnectStartedAt = 0;
+        }
+    }
+
+    /**
+     * All histograms, the SDK initialization timings and the {@link PendingCallRegistry} stats.
+     */
+    Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("methods", toMap(methods));
+        metrics.put("transitions", toMap(transitions));
+        metrics.put("joinToInMeeting", joinToInMeeting.toMap());
+        metrics.put("reconnect", reconnect.toMap());
+        metrics.put("recover", recover.toMap());
+        metrics.put("init", SdkInitCoordinator.getInstance().getTimings());
+        metrics.put("pendingCalls", PendingCallRegistry.getInstance().getStats());
+        return metrics;
+    }
+
+    private static LatencyHistogram histogram(ConcurrentHashMap<String, LatencyHistogram> histograms, String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(name, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        return histogram;
+    }
+
+    private static Map<String, Object> toMap(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().toMap());
+        }
+        return values;
+    }
+}
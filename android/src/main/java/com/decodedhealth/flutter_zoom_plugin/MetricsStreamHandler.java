@@ -0,0 +1,53 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * This class implements the handler for the metrics event channel.
+ *
+ * While listened to, it sends the {@link MetricsRegistry} metrics every "intervalMs" milliseconds
+ * (5 seconds by default).
+ */
+public class MetricsStreamHandler implements EventChannel.StreamHandler {
+    static final long DEFAULT_INTERVAL_MS = 5000;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable sendRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (events == null) {
+                return;
+            }
+            events.success(MetricsRegistry.getInstance().getMetrics());
+            handler.postDelayed(this, intervalMs);
+        }
+    };
+
+    private EventChannel.EventSink events;
+    private long intervalMs;
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+        this.intervalMs = DEFAULT_INTERVAL_MS;
+        if (arguments instanceof Map) {
+            Object value = ((Map<?, ?>) arguments).get("intervalMs");
+            if (value instanceof Number) {
+                intervalMs = Math.max(100, ((Number) value).longValue());
+            }
+        }
+        handler.removeCallbacks(sendRunnable);
+        handler.postDelayed(sendRunnable, intervalMs);
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        handler.removeCallbacks(sendRunnable);
+        events = null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+/**
+ * The state of a meeting participant as read from the SDK. The role is one of the
+ * RosterIndex.ROLE_ codes.
+ */
+final class ParticipantInfo {
+    final long userId;
+    final String name;
+    final int role;
+    final boolean audioMuted;
+    final boolean videoOn;
+
+    ParticipantInfo(long userId, String name, int role, boolean audioMuted, boolean videoOn) {
+        this.userId = userId;
+        this.name = name;
+        this.role = role;
+        this.audioMuted = audioMuted;
+        this.videoOn = videoOn;
+    }
+}
@@ -0,0 +1,69 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class answers "get_participants" from the {@link RosterIndex}, without calling the SDK
+ * once per participant.
+ *
+ * The participants are laid out in parallel arrays, as on the participant event channel: "ids"
+ * always, then "names", "roles" (RosterIndex.ROLE_) and "flags" (RosterIndex.FLAG_) when asked for
+ * in the fields mask, so that callers only pay for what they read. The roster is ordered by user
+ * id; a page is "limit" participants from "offset", the whole roster when the limit is 0. The
+ * reply also carries the "total" size of the roster and the "hostId" and "selfId".
+ */
+final class ParticipantQuery {
+
+    static final int FIELD_NAMES = 1;
+    static final int FIELD_ROLES = 1 << 1;
+    static final int FIELD_FLAGS = 1 << 2;
+    static final int FIELD_ALL = FIELD_NAMES | FIELD_ROLES | FIELD_FLAGS;
+
+    private ParticipantQuery() {
+    }
+
+    static Map<String, Object> run(RosterIndex roster, int fields, int offset, int limit) {
+        int total = roster.size();
+        int from = Math.min(Math.max(0, offset), total);
+        int count = limit > 0 ? Math.min(limit, total - from) : total - from;
+
+        long[] ids = new long[count];
+        List<String> names = (fields & FIELD_NAMES) != 0 ? new ArrayList<String>(count) : null;
+        int[] roles = (fields & FIELD_ROLES) != 0 ? new int[count] : null;
+        int[] flags = (fields & FIELD_FLAGS) != 0 ? new int[count] : null;
+
+        for (int i = 0; i < count; i++) {
+            RosterIndex.Participant participant = roster.valueAt(from + i);
+            ids[i] = participant.userId;
+            if (names != null) {
+                names.add(participant.name);
+            }
+            if (roles != null) {
+                roles[i] = participant.roleCode();
+            }
+            if (flags != null) {
+                flags[i] = participant.flags();
+            }
+        }
+
+        Map<String, Object> reply = new HashMap<>();
+        reply.put("total", total);
+        reply.put("offset", from);
+        reply.put("hostId", roster.getHostId());
+        reply.put("selfId", roster.getSelfId());
+        reply.put("ids", ids);
+        if (names != null) {
+            reply.put("names", names);
+        }
+        if (roles != null) {
+            reply.put("roles", roles);
+        }
+        if (flags != null) {
+            reply.put("flags", flags);
+        }
+        return reply;
+    }
+}
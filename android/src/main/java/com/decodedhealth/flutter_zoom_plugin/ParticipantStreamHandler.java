@@ -0,0 +1,270 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.util.LongSparseArray;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * This class implements the handler for the participant event channel.
+ *
+ * A listener first receives a snapshot of the roster, then deltas. Changes are coalesced and sent
+ * at most once per frame as a single message, so the traffic follows the rate of change rather
+ * than the size of the roster. Both messages lay the participants out in parallel arrays:
+ * ids, names, roles (RosterIndex.ROLE_) and flags (RosterIndex.FLAG_). Deltas also carry the
+ * RosterIndex.CHANGE_ mask of each participant and the ids of the participants that left.
+ *
+ * With the "compact" encoding each message is a single int64 array without names:
+ * [type (0 snapshot, 1 delta), sequence, count, left count], then for each participant its id
+ * and role | flags << 8 | changes << 16, then the ids of the participants that left.
+ */
+public class ParticipantStreamHandler implements EventChannel.StreamHandler, RosterIndex.Observer {
+    // kept next to the RosterIndex.CHANGE_ mask of a pending change, never sent: the first change
+    // of the frame was a join, so Dart did not know the participant when the frame started
+    private static final int UNKNOWN_TO_DART = 1 << 15;
+
+    private final RosterIndex roster;
+    private final LongSparseArray<Integer> pendingChanges = new LongSparseArray<>();
+    private final Choreographer.FrameCallback flushCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            flushScheduled = false;
+            flush();
+        }
+    };
+
+    private EventChannel.EventSink events;
+    private boolean flushScheduled;
+    private boolean snapshotPending;
+    private boolean compact;
+    private long sequence;
+
+    public ParticipantStreamHandler(RosterIndex roster) {
+        this.roster = roster;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+        this.compact = StatusStreamHandler.isCompact(arguments);
+        roster.addObserver(this);
+        onRosterReset();
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        roster.removeObserver(this);
+        cancelFlush();
+        pendingChanges.clear();
+        snapshotPending = false;
+        events = null;
+    }
+
+    @Override
+    public void onRosterReset() {
+        // a snapshot supersedes any change not sent yet
+        pendingChanges.clear();
+        snapshotPending = true;
+        scheduleFlush();
+    }
+
+    @Override
+    public void onParticipantChanged(long userId, int change) {
+        if (snapshotPending) {
+            return;
+        }
+        Integer pending = pendingChanges.get(userId);
+        if (pending == null) {
+            pendingChanges.put(userId, (change & RosterIndex.CHANGE_JOINED) != 0 ? change | UNKNOWN_TO_DART : change);
+        } else {
+            pendingChanges.put(userId, pending | change);
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (events == null || flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        Choreographer.getInstance().postFrameCallback(flushCallback);
+    }
+
+    private void cancelFlush() {
+        if (flushScheduled) {
+            Choreographer.getInstance().removeFrameCallback(flushCallback);
+            flushScheduled = false;
+        }
+    }
+
+    private void flush() {
+        if (events == null) {
+            return;
+        }
+
+        if (snapshotPending) {
+            // building the snapshot may seed the roster, whose reset must not ask for another one
+            Object snapshot = compact ? compactSnapshot() : snapshot();
+            snapshotPending = false;
+            pendingChanges.clear();
+            cancelFlush();
+            events.success(snapshot);
+            return;
+        }
+
+        if (pendingChanges.size() == 0) {
+            return;
+        }
+
+        Object delta = compact ? compactDelta() : delta();
+        pendingChanges.clear();
+        events.success(delta);
+    }
+
+    private long[] compactSnapshot() {
+        int count = roster.size();
+        long[] message = new long[4 + 2 * count];
+        message[0] = 0;
+        message[1] = ++sequence;
+        message[2] = count;
+        message[3] = 0;
+
+        for (int i = 0; i < count; i++) {
+            RosterIndex.Participant participant = roster.valueAt(i);
+            message[4 + 2 * i] = participant.userId;
+            message[5 + 2 * i] = pack(participant, 0);
+        }
+        return message;
+    }
+
+    private long[] compactDelta() {
+        int pending = pendingChanges.size();
+        long[] updates = new long[2 * pending];
+        long[] left = new long[pending];
+        int updated = 0;
+        int removed = 0;
+
+        for (int i = 0; i < pending; i++) {
+            long userId = pendingChanges.keyAt(i);
+            int change = pendingChanges.valueAt(i);
+            RosterIndex.Participant participant = roster.get(userId);
+
+            if (participant == null) {
+                if ((change & UNKNOWN_TO_DART) == 0) {
+                    left[removed++] = userId;
+                }
+                continue;
+            }
+
+            updates[2 * updated] = userId;
+            updates[2 * updated + 1] = pack(participant, change & ~(RosterIndex.CHANGE_LEFT | UNKNOWN_TO_DART));
+            updated++;
+        }
+
+        long[] message = new long[4 + 2 * updated + removed];
+        message[0] = 1;
+        message[1] = ++sequence;
+        message[2] = updated;
+        message[3] = removed;
+        System.arraycopy(updates, 0, message, 4, 2 * updated);
+        System.arraycopy(left, 0, message, 4 + 2 * updated, removed);
+        return message;
+    }
+
+    private static long pack(RosterIndex.Participant participant, int change) {
+        return participant.roleCode() | participant.flags() << 8 | change << 16;
+    }
+
+    private Map<String, Object> snapshot() {
+        int count = roster.size();
+        long[] ids = new long[count];
+        List<String> names = new ArrayList<>(count);
+        int[] roles = new int[count];
+        int[] flags = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            RosterIndex.Participant participant = roster.valueAt(i);
+            ids[i] = participant.userId;
+            names.add(participant.name);
+            roles[i] = participant.roleCode();
+            flags[i] = participant.flags();
+        }
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "snapshot");
+        message.put("seq", ++sequence);
+        message.put("ids", ids);
+        message.put("names", names);
+        message.put("roles", roles);
+        message.put("flags", flags);
+        return message;
+    }
+
+    private Map<String, Object> delta() {
+        int pending = pendingChanges.size();
+        long[] ids = new long[pending];
+        List<String> names = new ArrayList<>(pending);
+        int[] roles = new int[pending];
+        int[] flags = new int[pending];
+        int[] changes = new int[pending];
+        long[] left = new long[pending];
+        int updated = 0;
+        int removed = 0;
+
+        for (int i = 0; i < pending; i++) {
+            long userId = pendingChanges.keyAt(i);
+            int change = pendingChanges.valueAt(i);
+            RosterIndex.Participant participant = roster.get(userId);
+
+            if (participant == null) {
+                // joined and left again within the frame, nothing to report; a participant Dart
+                // knew may have left, joined and left again, which is still a left
+                if ((change & UNKNOWN_TO_DART) == 0) {
+                    left[removed++] = userId;
+                }
+                continue;
+            }
+
+            ids[updated] = userId;
+            names.add(participant.name);
+            roles[updated] = participant.roleCode();
+            flags[updated] = participant.flags();
+            changes[updated] = change & ~(RosterIndex.CHANGE_LEFT | UNKNOWN_TO_DART);
+            updated++;
+        }
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "delta");
+        message.put("seq", ++sequence);
+        message.put("ids", trim(ids, updated));
+        message.put("names", names);
+        message.put("roles", trim(roles, updated));
+        message.put("flags", trim(flags, updated));
+        message.put("changes", trim(changes, updated));
+        message.put("left", trim(left, removed));
+        return message;
+    }
+
+    private static long[] trim(long[] values, int length) {
+        if (values.length == length) {
+            return values;
+        }
+        long[] trimmed = new long[length];
+        System.arraycopy(values, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    private static int[] trim(int[] values, int length) {
+        if (values.length == length) {
+            return values;
+        }
+        int[] trimmed = new int[length];
+        System.arraycopy(values, 0, trimmed, 0, length);
+        return trimmed;
+    }
+}
@@ -0,0 +1,241 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * This class holds the results of the method calls answered from SDK callbacks, such as "init"
+ * and "login_with_email", until the callback comes or their deadline passes.
+ *
+ * Each call gets an id and is completed exactly once: by {@link #success(long, Object)} or
+ * {@link #error(long, String, String, Object)}, or with a "TIMEOUT" error once its deadline has
+ * passed, so that the Dart future neither hangs nor gets a second reply. Completions that come
+ * after the deadline, or twice, are counted as late and dropped. A single timer, set for the
+ * earliest deadline, sweeps the expired calls.
+ *
+ * Each call is registered with its owner, the channel handler of the engine it came from, so that
+ * an engine going away only drops its own calls. Counts, the number of calls pending and the
+ * completion latency per method are reported with the {@link MetricsRegistry} metrics. Main
+ * thread only.
+ */
+class PendingCallRegistry {
+
+    static final long DEFAULT_TIMEOUT_MS = 30000;
+    static final String ERROR_TIMEOUT = "TIMEOUT";
+
+    private static class Pending implements Comparable<Pending> {
+        final long id;
+        final Object owner;
+        final String method;
+        final MethodChannel.Result result;
+        final long timeoutMs;
+        final long deadline;
+        final long registeredNanos;
+
+        Pending(long id, Object owner, String method, MethodChannel.Result result, long timeoutMs) {
+            this.id = id;
+            this.owner = owner;
+            this.method = method;
+            this.result = result;
+            this.timeoutMs = timeoutMs;
+            this.deadline = SystemClock.uptimeMillis() + timeoutMs;
+            this.registeredNanos = System.nanoTime();
+        }
+
+        @Override
+        public int compareTo(Pending other) {
+            if (deadline != other.deadline) {
+                return deadline < other.deadline ? -1 : 1;
+            }
+            return id < other.id ? -1 : (id == other.id ? 0 : 1);
+        }
+    }
+
+    private static class Stats {
+        long registered;
+        long completed;
+        long timedOut;
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    private static PendingCallRegistry instance;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable sweepRunnable = new Runnable() {
+        @Override
+        public void run() {
+            sweepScheduledAt = 0;
+            sweep();
+        }
+    };
+
+    private final Map<Long, Pending> pending = new HashMap<>();
+    // deadlines of the pending calls, completed ones are dropped when they reach the head
+    private final PriorityQueue<Pending> deadlines = new PriorityQueue<>();
+    private final Map<String, Stats> stats = new HashMap<>();
+    private long nextId;
+    private long sweepScheduledAt;
+    private int maxPending;
+    private long late;
+
+    static PendingCallRegistry getInstance() {
+        if (instance == null) {
+            instance = new PendingCallRegistry();
+        }
+        return instance;
+    }
+
+    private PendingCallRegistry() {
+    }
+
+    /**
+     * Holds the result until completed or timed out, and returns the id to complete it with.
+     */
+    long register(Object owner, String method, MethodChannel.Result result, long timeoutMs) {
+        Pending call = new Pending(++nextId, owner, method, result, Math.max(0, timeoutMs));
+        pending.put(call.id, call);
+        deadlines.add(call);
+        maxPending = Math.max(maxPending, pending.size());
+        stats(method).registered++;
+        scheduleSweep();
+        return call.id;
+    }
+
+    /**
+     * Replies with the value, unless the call was already completed. Returns whether it replied.
+     */
+    boolean success(long id, Object value) {
+        Pending call = take(id);
+        if (call == null) {
+            return false;
+        }
+        call.result.success(value);
+        return true;
+    }
+
+    /**
+     * Replies with the error, unless the call was already completed. Returns whether it replied.
+     */
+    boolean error(long id, String errorCode, String errorMessage, Object errorDetails) {
+        Pending call = take(id);
+        if (call == null) {
+            return false;
+        }
+        call.result.error(errorCode, errorMessage, errorDetails);
+        return true;
+    }
+
+    /**
+     * Drops the pending calls of the owner without replying, when the engine they came from is
+     * gone. The calls of other owners keep their deadlines.
+     */
+    void clear(Object owner) {
+        Iterator<Pending> calls = pending.values().iterator();
+        while (calls.hasNext()) {
+            if (calls.next().owner == owner) {
+                calls.remove();
+            }
+        }
+        scheduleSweep();
+    }
+
+    /**
+     * Overall counts, and per method the calls registered, completed and timed out with the
+     * completion latency histogram.
+     */
+    Map<String, Object> getStats() {
+        Map<String, Object> methods = new HashMap<>();
+        long registered = 0;
+        long completed = 0;
+        long timedOut = 0;
+        for (Map.Entry<String, Stats> item : stats.entrySet()) {
+            Stats methodStats = item.getValue();
+            registered += methodStats.registered;
+            completed += methodStats.completed;
+            timedOut += methodStats.timedOut;
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("registered", methodStats.registered);
+            values.put("completed", methodStats.completed);
+            values.put("timedOut", methodStats.timedOut);
+            values.put("latency", methodStats.latency.toMap());
+            methods.put(item.getKey(), values);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("pending", pending.size());
+        result.put("maxPending", maxPending);
+        result.put("registered", registered);
+        result.put("completed", completed);
+        result.put("timedOut", timedOut);
+        result.put("late", late);
+        result.put("methods", methods);
+        return result;
+    }
+
+    private Pending take(long id) {
+        Pending call = pending.remove(id);
+        if (call == null) {
+            late++;
+            ZoomLog.w("late or duplicate completion of call: ", id);
+            return null;
+        }
+        Stats methodStats = stats(call.method);
+        methodStats.completed++;
+        methodStats.latency.recordNanos(System.nanoTime() - call.registeredNanos);
+        return call;
+    }
+
+    private void sweep() {
+        long now = SystemClock.uptimeMillis();
+        while (!deadlines.isEmpty() && deadlines.peek().deadline <= now) {
+            Pending call = deadlines.poll();
+            if (pending.remove(call.id) == null) {
+                continue;
+            }
+            stats(call.method).timedOut++;
+            ZoomLog.w("call timed out: ", call.method);
+            call.result.error(ERROR_TIMEOUT, call.method + " did not complete within " + call.timeoutMs + " ms", call.id);
+        }
+        scheduleSweep();
+    }
+
+    private void scheduleSweep() {
+        // completed calls at the head would only wake the timer for nothing
+        while (!deadlines.isEmpty() && !pending.containsKey(deadlines.peek().id)) {
+            deadlines.poll();
+        }
+        if (deadlines.isEmpty()) {
+            if (sweepScheduledAt != 0) {
+                handler.removeCallbacks(sweepRunnable);
+                sweepScheduledAt = 0;
+            }
+            return;
+        }
+
+        long next = deadlines.peek().deadline;
+        if (sweepScheduledAt != 0 && sweepScheduledAt <= next) {
+            return;
+        }
+        handler.removeCallbacks(sweepRunnable);
+        sweepScheduledAt = next;
+        handler.postAtTime(sweepRunnable, null, next);
+    }
+
+    private Stats stats(String method) {
+        Stats methodStats = stats.get(method);
+        if (methodStats == null) {
+            methodStats = new Stats();
+            stats.put(method, methodStats);
+        }
+        return methodStats;
+    }
+}
@@ -0,0 +1,228 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class samples the meeting quality while started from Dart and sends one summary per
+ * window on the quality event channel.
+ *
+ * Every interval, while in a meeting, it samples the quality of the local video, the mean quality
+ * of the video received from up to {@link #MAX_RATED_PER_SAMPLE} of the participants sending some,
+ * taken in turn so that every sender is rated over a few samples, the number of participants and of
+ * video senders, and the number of network quality callbacks since the previous sample. Samples
+ * are aggregated natively in {@link SampleWindow}s; only the summaries cross the channel, as
+ * {"start": epoch ms, "durationMs", "samples", "metrics": {name: [min, mean, max, p50, p90, p99]}}.
+ * Main thread only.
+ */
+class QualitySampler extends ZoomEventHub.Subscriber implements SharedStreamHandler {
+
+    static final long DEFAULT_INTERVAL_MS = 1000;
+    static final long DEFAULT_WINDOW_MS = 60000;
+    // each video quality read is a getUserInfoById over JNI on the main thread, so a sample costs
+    // up to MAX_RATED_PER_SAMPLE + 1 of them however many participants send video
+    static final long MIN_INTERVAL_MS = 100;
+    static final int MAX_RATED_PER_SAMPLE = 4;
+
+    static final String METRIC_MY_VIDEO_QUALITY = "myVideoQuality";
+    static final String METRIC_VIDEO_QUALITY = "videoQuality";
+    static final String METRIC_PARTICIPANTS = "participants";
+    static final String METRIC_VIDEO_SENDERS = "videoSenders";
+    static final String METRIC_NETWORK_CHANGES = "networkQualityChanges";
+
+    private static QualitySampler instance;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable sampleRunnable = new Runnable() {
+        @Override
+        public void run() {
+            sample();
+            if (SystemClock.uptimeMillis() - windowStartedAt >= windowMs) {
+                closeWindow();
+            }
+            handler.postDelayed(this, intervalMs);
+        }
+    };
+
+    private EventChannel.EventSink events;
+    private ZoomEventHub hub;
+    private ZoomSdkFacade sdk;
+    private long intervalMs;
+    private long windowMs;
+    private long windowStartedAt;
+    private long windowStartedAtEpoch;
+    private int networkChanges;
+    // roster position of the next video sender to rate
+    private int rateFrom;
+
+    private SampleWindow myVideoQuality;
+    private SampleWindow videoQuality;
+    private SampleWindow participants;
+    private SampleWindow videoSenders;
+    private SampleWindow networkQualityChanges;
+
+    static QualitySampler getInstance() {
+        if (instance == null) {
+            instance = new QualitySampler();
+        }
+        return instance;
+    }
+
+    private QualitySampler() {
+    }
+
+    boolean isRunning() {
+        return sdk != null;
+    }
+
+    /**
+     * Starts sampling, or restarts it with the new interval and window when already running.
+     */
+    void start(ZoomEventHub hub, ZoomSdkFacade sdk, long intervalMs, long windowMs) {
+        stop();
+
+        this.hub = hub;
+        this.sdk = sdk;
+        this.intervalMs = Math.max(MIN_INTERVAL_MS, intervalMs);
+        this.windowMs = Math.max(this.intervalMs, windowMs);
+
+        int capacity = (int) Math.min(Integer.MAX_VALUE, this.windowMs / this.intervalMs + 1);
+        myVideoQuality = new SampleWindow(capacity);
+        videoQuality = new SampleWindow(capacity);
+        participants = new SampleWindow(capacity);
+        videoSenders = new SampleWindow(capacity);
+        networkQualityChanges = new SampleWindow(capacity);
+        openWindow();
+
+        hub.subscribe(this);
+        handler.postDelayed(sampleRunnable, this.intervalMs);
+    }
+
+    /**
+     * Stops sampling, sending the summary of the window in progress if it has samples.
+     */
+    void stop() {
+        if (sdk == null) {
+            return;
+        }
+        handler.removeCallbacks(sampleRunnable);
+        hub.unsubscribe(this);
+        closeWindow();
+        hub = null;
+        sdk = null;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        this.events = events;
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        events = null;
+    }
+
+    @Override
+    public void cancel(EventChannel.EventSink events) {
+        if (this.events == events) {
+            this.events = null;
+        }
+    }
+
+    @Override
+    void onUserNetworkQualityChanged(long userId) {
+        networkChanges++;
+    }
+
+    private void sample() {
+        MeetingStateSnapshot state = MeetingStateTracker.getInstance().get();
+        if (state.status != MeetingStatus.MEETING_STATUS_INMEETING || !sdk.hasInMeetingService()) {
+            networkChanges = 0;
+            return;
+        }
+
+        if (state.myUserId != RosterIndex.NO_USER) {
+            int quality = sdk.getVideoQuality(state.myUserId);
+            if (quality >= 0) {
+                myVideoQuality.add(quality);
+            }
+        }
+
+        RosterIndex roster = RosterIndex.getInstance();
+        int count = roster.size();
+        int start = count > 0 ? rateFrom % count : 0;
+        int senders = 0;
+        int read = 0;
+        int qualityTotal = 0;
+        int rated = 0;
+        for (int n = 0; n < count; n++) {
+            int i = (start + n) % count;
+            RosterIndex.Participant participant = roster.valueAt(i);
+            if (!participant.videoOn) {
+                continue;
+            }
+            senders++;
+            if (participant.userId != state.myUserId && read < MAX_RATED_PER_SAMPLE) {
+                read++;
+                rateFrom = i + 1;
+                int quality = sdk.getVideoQuality(participant.userId);
+                if (quality > 0) {
+                    qualityTotal += quality;
+                    rated++;
+                }
+            }
+        }
+        if (rated > 0) {
+            videoQuality.add(qualityTotal / (double) rated);
+        }
+        participants.add(count);
+        videoSenders.add(senders);
+        networkQualityChanges.add(networkChanges);
+        networkChanges = 0;
+    }
+
+    private void openWindow() {
+        windowStartedAt = SystemClock.uptimeMillis();
+        windowStartedAtEpoch = System.currentTimeMillis();
+        myVideoQuality.reset();
+        videoQuality.reset();
+        participants.reset();
+        videoSenders.reset();
+        networkQualityChanges.reset();
+        networkChanges = 0;
+    }
+
+    private void closeWindow() {
+        int samples = participants.getCount();
+        if (samples > 0 && events != null) {
+            Map<String, Object> metrics = new HashMap<>();
+            putSummary(metrics, METRIC_MY_VIDEO_QUALITY, myVideoQuality);
+            putSummary(metrics, METRIC_VIDEO_QUALITY, videoQuality);
+            putSummary(metrics, METRIC_PARTICIPANTS, participants);
+            putSummary(metrics, METRIC_VIDEO_SENDERS, videoSenders);
+            putSummary(metrics, METRIC_NETWORK_CHANGES, networkQualityChanges);
+
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("start", windowStartedAtEpoch);
+            summary.put("durationMs", SystemClock.uptimeMillis() - windowStartedAt);
+            summary.put("samples", samples);
+            summary.put("metrics", metrics);
+            events.success(summary);
+        }
+        openWindow();
+    }
+
+    private static void putSummary(Map<String, Object> metrics, String name, SampleWindow window) {
+        double[] summary = window.summarize();
+        if (summary != null) {
+            metrics.put(name, summary);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.util.LongSparseArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class keeps an index of the meeting participants keyed by user id, maintained from the
+ * in-meeting join, leave and host change callbacks relayed by the {@link ZoomEventHub}, so that host and self lookups do not have to
+ * scan the user list. The roster is seeded from the user list, and our own id read, when first
+ * queried in a meeting; it is dropped whenever a meeting is entered, reconnected to, failed or left.
+ * It is only accessed from the main thread, where the SDK delivers its callbacks.
+ */
+class RosterIndex extends ZoomEventHub.Subscriber {
+
+    static final long NO_USER = 0;
+
+    static final int CHANGE_JOINED = 1;
+    static final int CHANGE_LEFT = 1 << 1;
+    static final int CHANGE_ROLE = 1 << 2;
+    static final int CHANGE_AUDIO_VIDEO = 1 << 3;
+
+    static final int ROLE_ATTENDEE = 0;
+    static final int ROLE_HOST = 1;
+    static final int ROLE_COHOST = 2;
+    static final int ROLE_PANELIST = 3;
+    static final int ROLE_OTHER = 4;
+
+    static final int FLAG_AUDIO_MUTED = 1;
+    static final int FLAG_VIDEO_ON = 1 << 1;
+
+    interface Observer {
+        /**
+         * The roster was rebuilt from the user list, previous changes no longer apply.
+         */
+        void onRosterReset();
+
+        void onParticipantChanged(long userId, int change);
+    }
+
+    static class Participant {
+        final long userId;
+        String name;
+        int role = ROLE_ATTENDEE;
+        boolean audioMuted;
+        boolean videoOn;
+
+        Participant(long userId) {
+            this.userId = userId;
+        }
+
+        int roleCode() {
+            return role;
+        }
+
+        int flags() {
+            return (audioMuted ? FLAG_AUDIO_MUTED : 0) | (videoOn ? FLAG_VIDEO_ON : 0);
+        }
+    }
+
+    private static RosterIndex instance;
+
+    private final LongSparseArray<Participant> participants = new LongSparseArray<>();
+    private final List<Observer> observers = new ArrayList<>();
+    private ZoomSdkFacade sdk;
+    private boolean seeded;
+    private long hostId = NO_USER;
+    private long selfId = NO_USER;
+
+    static RosterIndex getInstance() {
+        if (instance == null) {
+            instance = new RosterIndex();
+        }
+        return instance;
+    }
+
+    private RosterIndex() {
+    }
+
+    /**
+     * Starts maintaining the roster of the given SDK from the hub callbacks.
+     */
+    void attach(ZoomEventHub hub, ZoomSdkFacade sdk) {
+        if (sdk == null || this.sdk == sdk) {
+            return;
+        }
+        this.sdk = sdk;
+        hub.subscribe(this);
+        reset();
+    }
+
+    void detach(ZoomEventHub hub) {
+        hub.unsubscribe(this);
+        sdk = null;
+        reset();
+    }
+
+    void reset() {
+        participants.clear();
+        seeded = false;
+        hostId = NO_USER;
+        selfId = NO_USER;
+        notifyReset();
+    }
+
+    void addObserver(Observer observer) {
+        if (!observers.contains(observer)) {
+            observers.add(observer);
+        }
+    }
+
+    void removeObserver(Observer observer) {
+        observers.remove(observer);
+    }
+
+    long getHostId() {
+        seedIfNeeded();
+        return hostId;
+    }
+
+    long getSelfId() {
+        seedIfNeeded();
+        return selfId;
+    }
+
+    boolean isHost(long userId) {
+        seedIfNeeded();
+        return userId != NO_USER && userId == hostId;
+    }
+
+    Participant get(long userId) {
+        seedIfNeeded();
+        return participants.get(userId);
+    }
+
+    int size() {
+        seedIfNeeded();
+        return participants.size();
+    }
+
+    /**
+     * Participant at the given position, for iterating over the whole roster after {@link #size()}.
+     */
+    Participant valueAt(int index) {
+        return participants.valueAt(index);
+    }
+
+    @Override
+    void onMeetingUserJoin(List<Long> userList) {
+        if (!seedForCallback() || userList == null) {
+            return;
+        }
+        for (int i = 0; i < userList.size(); i++) {
+            long userId = userList.get(i);
+            boolean known = participants.get(userId) != null;
+            refresh(userId);
+            notifyChanged(userId, known ? CHANGE_ROLE | CHANGE_AUDIO_VIDEO : CHANGE_JOINED);
+        }
+    }
+
+    @Override
+    void onMeetingUserLeave(List<Long> userList) {
+        if (!seedForCallback() || userList == null) {
+            return;
+        }
+        for (int i = 0; i < userList.size(); i++) {
+            long userId = userList.get(i);
+            participants.remove(userId);
+            if (userId == hostId) {
+                hostId = NO_USER;
+            }
+            notifyChanged(userId, CHANGE_LEFT);
+        }
+    }
+
+    @Override
+    void onMeetingHostChanged(long userId) {
+        if (!seedForCallback()) {
+            return;
+        }
+        long previousHost = hostId;
+        if (previousHost != NO_USER && previousHost != userId) {
+            refresh(previousHost);
+            notifyChanged(previousHost, CHANGE_ROLE);
+        }
+        refresh(userId);
+        // the callback is authoritative even if the user info still reports the old role
+        hostId = userId;
+        notifyChanged(userId, CHANGE_ROLE);
+    }
+
+    @Override
+    void onMeetingCoHostChanged(long userId) {
+        if (seedForCallback()) {
+            refresh(userId);
+            notifyChanged(userId, CHANGE_ROLE);
+        }
+    }
+
+    @Override
+    void onUserAudioStatusChanged(long userId) {
+        if (seedForCallback()) {
+            refresh(userId);
+            notifyChanged(userId, CHANGE_AUDIO_VIDEO);
+        }
+    }
+
+    @Override
+    void onUserVideoStatusChanged(long userId) {
+        if (seedForCallback()) {
+            refresh(userId);
+            notifyChanged(userId, CHANGE_AUDIO_VIDEO);
+        }
+    }
+
+    @Override
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        switch (meetingStatus) {
+            case MEETING_STATUS_INMEETING:
+                // a new or reconnected meeting: the users, the host and our own id may all differ
+            case MEETING_STATUS_FAILED:
+            case MEETING_STATUS_IDLE:
+                if (seeded || hostId != NO_USER || selfId != NO_USER) {
+                    reset();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    void onMeetingLeaveComplete(long ret) {
+        reset();
+    }
+
+    /**
+     * Callbacks only maintain the roster while someone is interested in it: once it was queried,
+     * or while an observer is registered. Returns false when the callback should be ignored.
+     */
+    private boolean seedForCallback() {
+        if (!seeded && !observers.isEmpty()) {
+            seedIfNeeded();
+            // seeding already picked up the change reported by the callback
+            return false;
+        }
+        return seeded;
+    }
+
+    private void seedIfNeeded() {
+        if (seeded || sdk == null) {
+            return;
+        }
+
+        List<Long> userList = sdk.getParticipantIds();
+        if (userList == null) {
+            return;
+        }
+
+        participants.clear();
+        hostId = NO_USER;
+        selfId = sdk.getMyUserId();
+        for (int i = 0; i < userList.size(); i++) {
+            refresh(userList.get(i));
+        }
+        seeded = true;
+        notifyReset();
+    }
+
+    private void refresh(long userId) {
+        ParticipantInfo info = sdk.getParticipant(userId);
+        if (info == null) {
+            participants.remove(userId);
+            return;
+        }
+
+        Participant participant = participants.get(userId);
+        if (participant == null) {
+            participant = new Participant(userId);
+            participants.put(userId, participant);
+        }
+        participant.name = info.name;
+        participant.role = info.role;
+        participant.audioMuted = info.audioMuted;
+        participant.videoOn = info.videoOn;
+
+        if (participant.role == ROLE_HOST) {
+            hostId = userId;
+        } else if (hostId == userId) {
+            hostId = NO_USER;
+        }
+    }
+
+    private void notifyReset() {
+        for (int i = 0; i < observers.size(); i++) {
+            observers.get(i).onRosterReset();
+        }
+    }
+
+    private void notifyChanged(long userId, int change) {
+        for (int i = 0; i < observers.size(); i++) {
+            observers.get(i).onParticipantChanged(userId, change);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.Arrays;
+
+/**
+ * This class collects the samples of one metric over a window and summarizes them.
+ *
+ * The samples are kept in a preallocated array sized for the window, so sampling allocates
+ * nothing; samples beyond the capacity are dropped. Summaries are
+ * [min, mean, max, p50, p90, p99], percentiles by nearest rank.
+ */
+final class SampleWindow {
+
+    static final int STATS = 6;
+
+    private final double[] samples;
+    private int count;
+
+    SampleWindow(int capacity) {
+        samples = new double[Math.max(1, capacity)];
+    }
+
+    void add(double value) {
+        if (count < samples.length) {
+            samples[count++] = value;
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    void reset() {
+        count = 0;
+    }
+
+    /**
+     * Null when there is no sample.
+     */
+    double[] summarize() {
+        if (count == 0) {
+            return null;
+        }
+        double[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            total += sorted[i];
+        }
+        return new double[]{
+                sorted[0],
+                total / count,
+                sorted[count - 1],
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99)};
+    }
+
+    private static double percentile(double[] sorted, double fraction) {
+        int rank = (int) Math.ceil(sorted.length * fraction);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
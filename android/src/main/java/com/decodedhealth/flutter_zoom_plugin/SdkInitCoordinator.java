@@ -0,0 +1,343 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.zoom.sdk.ZoomError;
+import us.zoom.sdk.ZoomSDKInitParams;
+
+/**
+ * This class makes sure the Zoom SDK is initialized at most once at a time.
+ * Initialization can be started when the plugin attaches, using the parameters of the last
+ * successful "init", and every "init" call waits on the same in-flight attempt.
+ * The SDK is initialized once per process: an "init" with other parameters than the ones it was
+ * initialized with is not answered with that result, its parameters are saved for the next start.
+ * All methods except {@link #prewarm(Context, int)} must be called on the main thread.
+ */
+class SdkInitCoordinator {
+
+    interface Callback {
+        void onInitResult(int errorCode, int internalErrorCode);
+
+        /**
+         * The SDK was initialized, or is being initialized, with other parameters, typically the
+         * persisted ones of a prewarm. The new parameters are saved and used from the next start.
+         */
+        void onParamsChanged();
+    }
+
+    private static class Waiter {
+        final ZoomSDKInitParams params;
+        final Callback callback;
+
+        Waiter(ZoomSDKInitParams params, Callback callback) {
+            this.params = params;
+            this.callback = callback;
+        }
+    }
+
+    static final String KEY_JWT_TOKEN = "init.jwtToken";
+    static final String KEY_APP_KEY = "init.appKey";
+    static final String KEY_APP_SECRET = "init.appSecret";
+    static final String KEY_DOMAIN = "init.domain";
+
+    static final String ERROR_PARAMS_CHANGED = "PARAMS_CHANGED";
+
+    static final int PREWARM_EAGER = 0;
+    static final int PREWARM_AFTER_FIRST_FRAME = 1;
+    static final int PREWARM_NONE = 2;
+
+    private static SdkInitCoordinator instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Waiter> waiters = new ArrayList<>();
+
+    private Context context;
+    private boolean inFlight;
+    private boolean inFlightIsPrewarm;
+    private ZoomSDKInitParams retryParams;
+    // of the attempt in flight, then of the successful one
+    private ZoomSDKInitParams activeParams;
+    private int[] readyResult;
+
+    private long attachedAt;
+    private long initStartedAt;
+    private long readyAt;
+    private long firstCallAt;
+    private boolean prewarmed;
+    private int prewarmMode = PREWARM_NONE;
+
+    static synchronized SdkInitCoordinator getInstance() {
+        if (instance == null) {
+            instance = new SdkInitCoordinator();
+        }
+        return instance;
+    }
+
+    private SdkInitCoordinator() {
+    }
+
+    /**
+     * Starts initializing the SDK with the persisted parameters of the last successful "init",
+     * as set by the mode: straight away, once the first frame is drawn and the main thread is
+     * idle, or not at all, in which case the keystore and the SDK native libraries are only
+     * loaded by the first "init". Safe to call from any thread; the keystore is read on a
+     * background thread.
+     */
+    void prewarm(Context context, final int mode) {
+        final Context appContext = context.getApplicationContext();
+        final long now = SystemClock.elapsedRealtime();
+
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (attachedAt == 0) {
+                    attachedAt = now;
+                }
+                SdkInitCoordinator.this.context = appContext;
+                prewarmMode = mode;
+
+                if (mode == PREWARM_EAGER) {
+                    loadAndStart(appContext);
+                } else if (mode == PREWARM_AFTER_FIRST_FRAME) {
+                    Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+                        @Override
+                        public void doFrame(long frameTimeNanos) {
+                            // the frame callback runs before the frame is drawn, wait for the queue to drain
+                            Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+                                @Override
+                                public boolean queueIdle() {
+                                    if (readyResult == null && !inFlight) {
+                                        loadAndStart(appContext);
+                                    }
+                                    return false;
+                                }
+                            });
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void loadAndStart(final Context appContext) {
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final ZoomSDKInitParams params = loadParams(appContext);
+                if (params == null) {
+                    return;
+                }
+
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (inFlight || readyResult != null) {
+                            return;
+                        }
+                        ZoomLog.i("prewarming initialization");
+                        prewarmed = true;
+                        start(params, true);
+                    }
+                });
+            }
+        }, "zoom-init-prewarm").start();
+    }
+
+    /**
+     * Initializes the SDK, or joins the attempt already in flight. The callback is invoked once
+     * with the result of that attempt, or straight away when the SDK is already initialized, unless
+     * that attempt used other parameters: then they are saved and {@link Callback#onParamsChanged()}
+     * is invoked instead.
+     */
+    void initialize(Context context, ZoomSDKInitParams params, Callback callback) {
+        this.context = context.getApplicationContext();
+        if (firstCallAt == 0) {
+            firstCallAt = SystemClock.elapsedRealtime();
+        }
+
+        if (readyResult == null && SdkProvider.get().isInitialized()) {
+            markReady(0, 0);
+        }
+
+        if (readyResult != null) {
+            reply(new Waiter(params, callback), readyResult[0], readyResult[1]);
+            return;
+        }
+
+        waiters.add(new Waiter(params, callback));
+
+        if (inFlight) {
+            if (inFlightIsPrewarm) {
+                // the prewarm used persisted credentials, keep the fresh ones in case they were stale
+                retryParams = params;
+            }
+            return;
+        }
+
+        start(params, false);
+    }
+
+    /**
+     * Startup timings in milliseconds, measured from the moment the plugin attached.
+     */
+    Map<String, Object> getTimings() {
+        Map<String, Object> timings = new HashMap<>();
+        timings.put("prewarmMode", prewarmMode);
+        timings.put("prewarmed", prewarmed);
+        timings.put("ready", readyResult != null);
+        timings.put("attachToInitStartMs", since(attachedAt, initStartedAt));
+        timings.put("initDurationMs", since(initStartedAt, readyAt));
+        timings.put("attachToReadyMs", since(attachedAt, readyAt));
+        timings.put("attachToFirstCallMs", since(attachedAt, firstCallAt));
+        timings.put("firstCallWaitMs", firstCallAt == 0 || readyAt == 0 ? -1 : Math.max(0, readyAt - firstCallAt));
+        return timings;
+    }
+
+    private void start(final ZoomSDKInitParams params, final boolean isPrewarm) {
+        inFlight = true;
+        inFlightIsPrewarm = isPrewarm;
+        activeParams = params;
+        initStartedAt = SystemClock.elapsedRealtime();
+
+        SdkProvider.get().initialize(
+                context,
+                params,
+                new ZoomSdkFacade.InitCallback() {
+                    @Override
+                    public void onInitResult(int errorCode, int internalErrorCode) {
+                        onInitFinished(params, isPrewarm, errorCode, internalErrorCode);
+                    }
+                });
+    }
+
+    private void onInitFinished(ZoomSDKInitParams params, boolean isPrewarm, int errorCode, int internalErrorCode) {
+        inFlight = false;
+        ZoomLog.i("init finished in ms: ", SystemClock.elapsedRealtime() - initStartedAt);
+
+        if (errorCode != ZoomError.ZOOM_ERROR_SUCCESS) {
+            ZoomLog.e("failed to initialize Zoom SDK, error / internal error: ", errorCode, internalErrorCode);
+
+            if (isPrewarm) {
+                clearParams();
+                if (retryParams != null) {
+                    ZoomSDKInitParams next = retryParams;
+                    retryParams = null;
+                    start(next, false);
+                    return;
+                }
+            }
+
+            dispatch(errorCode, internalErrorCode);
+            return;
+        }
+
+        retryParams = null;
+        markReady(errorCode, internalErrorCode);
+        if (!isPrewarm) {
+            saveParams(params);
+        }
+        AuthSessionManager.getInstance().restoreSession(context);
+        dispatch(errorCode, internalErrorCode);
+    }
+
+    private void markReady(int errorCode, int internalErrorCode) {
+        readyResult = new int[]{errorCode, internalErrorCode};
+        readyAt = SystemClock.elapsedRealtime();
+    }
+
+    private void dispatch(int errorCode, int internalErrorCode) {
+        List<Waiter> callbacks = new ArrayList<>(waiters);
+        waiters.clear();
+        for (Waiter waiter : callbacks) {
+            reply(waiter, errorCode, internalErrorCode);
+        }
+    }
+
+    private void reply(Waiter waiter, int errorCode, int internalErrorCode) {
+        // activeParams is null when the SDK was found initialized by someone else
+        if (errorCode == ZoomError.ZOOM_ERROR_SUCCESS && activeParams != null
+                && !sameParams(activeParams, waiter.params)) {
+            ZoomLog.w("SDK already initialized with other parameters, saved for the next start");
+            saveParams(waiter.params);
+            waiter.callback.onParamsChanged();
+            return;
+        }
+        waiter.callback.onInitResult(errorCode, internalErrorCode);
+    }
+
+    private static boolean sameParams(ZoomSDKInitParams a, ZoomSDKInitParams b) {
+        return Arrays.equals(strings(a), strings(b));
+    }
+
+    private static String[] strings(ZoomSDKInitParams params) {
+        return new String[]{params.jwtToken, params.appKey, params.appSecret, params.domain};
+    }
+
+    private static long since(long from, long to) {
+        return from == 0 || to == 0 ? -1 : to - from;
+    }
+
+    private static ZoomSDKInitParams loadParams(Context context) {
+        SharedPreferences preferences = SecurePreferences.open(context);
+        if (preferences == null || !preferences.contains(KEY_DOMAIN)) {
+            return null;
+        }
+
+        ZoomSDKInitParams params = new ZoomSDKInitParams();
+        params.jwtToken = preferences.getString(KEY_JWT_TOKEN, null);
+        params.appKey = preferences.getString(KEY_APP_KEY, null);
+        params.appSecret = preferences.getString(KEY_APP_SECRET, null);
+        params.domain = preferences.getString(KEY_DOMAIN, null);
+        return params;
+    }
+
+    private void saveParams(final ZoomSDKInitParams params) {
+        final Context appContext = context;
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SharedPreferences preferences = SecurePreferences.open(appContext);
+                if (preferences == null) {
+                    return;
+                }
+                preferences.edit()
+                        .putString(KEY_JWT_TOKEN, params.jwtToken)
+                        .putString(KEY_APP_KEY, params.appKey)
+                        .putString(KEY_APP_SECRET, params.appSecret)
+                        .putString(KEY_DOMAIN, params.domain)
+                        .apply();
+            }
+        }, "zoom-init-persist").start();
+    }
+
+    private void clearParams() {
+        final Context appContext = context;
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SharedPreferences preferences = SecurePreferences.open(appContext);
+                if (preferences == null) {
+                    return;
+                }
+                preferences.edit()
+                        .remove(KEY_JWT_TOKEN)
+                        .remove(KEY_APP_KEY)
+                        .remove(KEY_APP_SECRET)
+                        .remove(KEY_DOMAIN)
+                        .apply();
+            }
+        }, "zoom-init-persist").start();
+    }
+}
@@ -0,0 +1,27 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+/**
+ * This class gives access to the SDK the plugin talks to: the real Zoom SDK unless another
+ * implementation, such as a simulator, was set.
+ */
+final class SdkProvider {
+
+    private static ZoomSdkFacade sdk;
+
+    private SdkProvider() {
+    }
+
+    static ZoomSdkFacade get() {
+        if (sdk == null) {
+            sdk = new ZoomSdkAdapter();
+        }
+        return sdk;
+    }
+
+    /**
+     * Replaces the SDK. Must be called before the plugin first uses it.
+     */
+    static void set(ZoomSdkFacade facade) {
+        sdk = facade;
+    }
+}
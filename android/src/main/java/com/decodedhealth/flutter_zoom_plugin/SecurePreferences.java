@@ -0,0 +1,47 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.security.crypto.EncryptedSharedPreferences;
+import androidx.security.crypto.MasterKey;
+
+/**
+ * This class opens the encrypted preference file the plugin keeps its persisted state in
+ */
+class SecurePreferences {
+    static final String FILE_NAME = "com.decodedhealth.flutter_zoom_plugin.secure";
+
+    private static SharedPreferences preferences;
+
+    private SecurePreferences() {
+    }
+
+    /**
+     * Opening the file touches the Android keystore, so this must not be called on the main thread.
+     * Returns null when the keystore is unavailable, in which case nothing is persisted.
+     */
+    static synchronized SharedPreferences open(Context context) {
+        if (preferences != null) {
+            return preferences;
+        }
+
+        try {
+            MasterKey masterKey = new MasterKey.Builder(context.getApplicationContext())
+                    .setKeyScheme(MasterKey.KeyScheme.AES256_GCM)
+                    .build();
+
+            preferences = EncryptedSharedPreferences.create(
+                    context.getApplicationContext(),
+                    FILE_NAME,
+                    masterKey,
+                    EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                    EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+        } catch (Exception e) {
+            ZoomLog.w("secure preferences unavailable: ", e);
+            preferences = null;
+        }
+
+        return preferences;
+    }
+}
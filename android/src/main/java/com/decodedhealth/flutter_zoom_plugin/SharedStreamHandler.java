@@ -0,0 +1,15 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * A stream handler shared by the channels of every engine. Events go to the sink listened last,
+ * so an engine going away must only cancel the stream while it is still listening with its own.
+ */
+interface SharedStreamHandler extends EventChannel.StreamHandler {
+
+    /**
+     * Stops the events, unless they now go to another sink.
+     */
+    void cancel(EventChannel.EventSink events);
+}
@@ -0,0 +1,132 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class buffers meeting status events between two deliveries to the event sink.
+ *
+ * Every event offered gets the next sequence number, whether or not it is eventually delivered,
+ * so the Dart side can detect dropped events from gaps in the sequence. Terminal statuses
+ * (failed, idle) are never dropped.
+ */
+class StatusEventQueue {
+
+    enum DropPolicy {
+        /** Deliver every event, dropping the oldest non-terminal ones when the queue is full. */
+        KEEP_ALL,
+        /** Deliver only the latest non-terminal event of each coalescing window. */
+        KEEP_LATEST,
+        /** Drop events that repeat the status of the previous event. */
+        TRANSITIONS_ONLY
+    }
+
+    static class StatusEvent {
+        final MeetingStatus status;
+        final int errorCode;
+        final int internalErrorCode;
+        final long sequence;
+
+        StatusEvent(MeetingStatus status, int errorCode, int internalErrorCode, long sequence) {
+            this.status = status;
+            this.errorCode = errorCode;
+            this.internalErrorCode = internalErrorCode;
+            this.sequence = sequence;
+        }
+
+        boolean isTerminal() {
+            return StatusEventQueue.isTerminal(status);
+        }
+    }
+
+    static final int DEFAULT_CAPACITY = 32;
+
+    private final ArrayDeque<StatusEvent> queue = new ArrayDeque<>();
+    private final DropPolicy policy;
+    private final long windowMs;
+    private final int capacity;
+
+    private long sequence;
+    private MeetingStatus lastStatus;
+
+    StatusEventQueue(DropPolicy policy, long windowMs, int capacity) {
+        this.policy = policy;
+        this.windowMs = windowMs;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Reads the configuration passed by the Dart side when listening:
+     * "policy" (keep_all, keep_latest, transitions_only), "windowMs" and "capacity".
+     */
+    static StatusEventQueue fromArguments(Object arguments) {
+        DropPolicy policy = DropPolicy.KEEP_ALL;
+        long windowMs = 0;
+        int capacity = DEFAULT_CAPACITY;
+
+        if (arguments instanceof Map) {
+            Map<?, ?> options = (Map<?, ?>) arguments;
+            Object value = options.get("policy");
+            if ("keep_latest".equals(value)) {
+                policy = DropPolicy.KEEP_LATEST;
+            } else if ("transitions_only".equals(value)) {
+                policy = DropPolicy.TRANSITIONS_ONLY;
+            }
+            value = options.get("windowMs");
+            if (value instanceof Number) {
+                windowMs = Math.max(0, ((Number) value).longValue());
+            }
+            value = options.get("capacity");
+            if (value instanceof Number) {
+                capacity = ((Number) value).intValue();
+            }
+        }
+
+        return new StatusEventQueue(policy, windowMs, capacity);
+    }
+
+    static boolean isTerminal(MeetingStatus status) {
+        return status == MeetingStatus.MEETING_STATUS_FAILED || status == MeetingStatus.MEETING_STATUS_IDLE;
+    }
+
+    long getWindowMs() {
+        return windowMs;
+    }
+
+    void offer(MeetingStatus status, int errorCode, int internalErrorCode) {
+        StatusEvent event = new StatusEvent(status, errorCode, internalErrorCode, ++sequence);
+        MeetingStatus previous = lastStatus;
+        lastStatus = status;
+
+        if (policy == DropPolicy.TRANSITIONS_ONLY && status == previous && !event.isTerminal()) {
+            return;
+        }
+
+        if (policy == DropPolicy.KEEP_LATEST && !event.isTerminal()) {
+            removeNonTerminal(1);
+        }
+
+        queue.addLast(event);
+
+        if (queue.size() > capacity) {
+            removeNonTerminal(queue.size() - capacity);
+        }
+    }
+
+    StatusEvent poll() {
+        return queue.pollFirst();
+    }
+
+    private void removeNonTerminal(int count) {
+        Iterator<StatusEvent> iterator = queue.iterator();
+        while (count > 0 && iterator.hasNext()) {
+            if (!iterator.next().isTerminal()) {
+                iterator.remove();
+                count--;
+            }
+        }
+    }
+}
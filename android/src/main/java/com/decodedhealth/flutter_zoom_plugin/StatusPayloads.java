@@ -0,0 +1,95 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class holds the precomputed, immutable payloads sent for each meeting status.
+ *
+ * Status codes are the indexes of the Dart ZoomMeetingStatus enum, so the compact encoding can be
+ * decoded without parsing names. Descriptions are only sent when asked for.
+ */
+class StatusPayloads {
+
+    static class Payload {
+        final int code;
+        final String name;
+        final String description;
+
+        Payload(int code, String name, String description) {
+            this.code = code;
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    static final int CODE_CONNECTING = 0;
+    static final int CODE_DISCONNECTING = 1;
+    static final int CODE_FAILED = 2;
+    static final int CODE_IDLE = 3;
+    static final int CODE_IN_WAITING_ROOM = 4;
+    static final int CODE_INMEETING = 5;
+    static final int CODE_RECONNECTING = 6;
+    static final int CODE_UNKNOWN = 7;
+    static final int CODE_WAITINGFORHOST = 8;
+    static final int CODE_WEBINAR_DEPROMOTE = 9;
+    static final int CODE_WEBINAR_PROMOTE = 10;
+
+    static final Payload UNKNOWN = new Payload(CODE_UNKNOWN, "MEETING_STATUS_UNKNOWN", "Unknown status.");
+    static final Payload CLIENT_INCOMPATIBLE = new Payload(CODE_UNKNOWN, "MEETING_STATUS_UNKNOWN", "Version of ZoomSDK is too low");
+    static final Payload NOT_AVAILABLE = new Payload(CODE_UNKNOWN, "MEETING_STATUS_UNKNOWN", "No status available");
+
+    private static final Map<MeetingStatus, Payload> PAYLOADS;
+
+    static {
+        EnumMap<MeetingStatus, Payload> payloads = new EnumMap<>(MeetingStatus.class);
+        put(payloads, MeetingStatus.MEETING_STATUS_CONNECTING, CODE_CONNECTING, "Connect to the meeting server.");
+        put(payloads, MeetingStatus.MEETING_STATUS_DISCONNECTING, CODE_DISCONNECTING, "Disconnect the meeting server, user leaves meeting.");
+        put(payloads, MeetingStatus.MEETING_STATUS_FAILED, CODE_FAILED, "Failed to connect the meeting server.");
+        put(payloads, MeetingStatus.MEETING_STATUS_IDLE, CODE_IDLE, "No meeting is running");
+        put(payloads, MeetingStatus.MEETING_STATUS_IN_WAITING_ROOM, CODE_IN_WAITING_ROOM, "Participants who join the meeting before the start are in the waiting room.");
+        put(payloads, MeetingStatus.MEETING_STATUS_INMEETING, CODE_INMEETING, "Meeting is ready and in process.");
+        put(payloads, MeetingStatus.MEETING_STATUS_RECONNECTING, CODE_RECONNECTING, "Reconnecting meeting server.");
+        put(payloads, MeetingStatus.MEETING_STATUS_WAITINGFORHOST, CODE_WAITINGFORHOST, "Waiting for the host to start the meeting.");
+        put(payloads, MeetingStatus.MEETING_STATUS_WEBINAR_DEPROMOTE, CODE_WEBINAR_DEPROMOTE, "Demote the attendees from the panelist.");
+        put(payloads, MeetingStatus.MEETING_STATUS_WEBINAR_PROMOTE, CODE_WEBINAR_PROMOTE, "Upgrade the attendees to panelist in webinar.");
+        payloads.put(MeetingStatus.MEETING_STATUS_UNKNOWN, UNKNOWN);
+
+        // statuses added by newer SDKs carry their name and no description
+        for (MeetingStatus status : MeetingStatus.values()) {
+            if (!payloads.containsKey(status)) {
+                payloads.put(status, new Payload(CODE_UNKNOWN, status.name(), "No status available."));
+            }
+        }
+        PAYLOADS = Collections.unmodifiableMap(payloads);
+    }
+
+    private StatusPayloads() {
+    }
+
+    private static void put(Map<MeetingStatus, Payload> payloads, MeetingStatus status, int code, String description) {
+        payloads.put(status, new Payload(code, status.name(), description));
+    }
+
+    static Payload get(MeetingStatus status) {
+        return status == null ? NOT_AVAILABLE : PAYLOADS.get(status);
+    }
+
+    /**
+     * Descriptions keyed by status code, for the Dart side to fetch once.
+     */
+    static Map<Integer, String> getDescriptions() {
+        Map<Integer, String> descriptions = new HashMap<>();
+        for (Payload payload : PAYLOADS.values()) {
+            if (payload.code != CODE_UNKNOWN) {
+                descriptions.put(payload.code, payload.description);
+            }
+        }
+        descriptions.put(CODE_UNKNOWN, UNKNOWN.description);
+        return descriptions;
+    }
+}
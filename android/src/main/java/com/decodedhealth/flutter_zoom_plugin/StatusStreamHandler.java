@@ -1,95 +1,120 @@
 package com.decodedhealth.flutter_zoom_plugin;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import io.flutter.plugin.common.EventChannel;
 import us.zoom.sdk.MeetingError;
-import us.zoom.sdk.MeetingService;
-import us.zoom.sdk.MeetingServiceListener;
 import us.zoom.sdk.MeetingStatus;
 
 /**
- * This class implements the handler for the Zoom meeting event in the flutter event channel
+ * This class implements the handler for the Zoom meeting event in the flutter event channel.
+ *
+ * Events go through a {@link StatusEventQueue} configured by the listen arguments, which can
+ * coalesce them over a time window before they are delivered. Each event is sent as
+ * [status, description, sequence number], or with the "compact" encoding as the int64 array
+ * [sequence number, status code, error code, internal error code] using the StatusPayloads codes.
  */
 public class StatusStreamHandler implements EventChannel.StreamHandler {
-    private MeetingService meetingService;
-    private MeetingServiceListener statusListener;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled = false;
+            flush();
+        }
+    };
+    private final long[] compactEvent = new long[4];
 
-    public StatusStreamHandler(MeetingService meetingService) {
-        this.meetingService = meetingService;
-    }
+    private final ZoomEventHub hub;
+    private final ZoomEventHub.Subscriber statusSubscriber = new ZoomEventHub.Subscriber() {
+        @Override
+        void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+            queue.offer(meetingStatus, errorCode, internalErrorCode);
 
-    @Override
-    public void onListen(Object arguments, final EventChannel.EventSink events) {
-        statusListener = new MeetingServiceListener() {
-            @Override
-            public void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+            if (queue.getWindowMs() == 0) {
+                flush();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                handler.postDelayed(flushRunnable, queue.getWindowMs());
+            }
+        }
+    };
 
-                if(meetingStatus == MeetingStatus.MEETING_STATUS_FAILED &&
-                        errorCode == MeetingError.MEETING_ERROR_CLIENT_INCOMPATIBLE) {
-                    events.success(Arrays.asList("MEETING_STATUS_UNKNOWN", "Version of ZoomSDK is too low"));
-                    return;
-                }
+    private EventChannel.EventSink events;
+    private StatusEventQueue queue;
+    private boolean flushScheduled;
+    private boolean compact;
 
-                events.success(getMeetingStatusMessage(meetingStatus));
-            }
-        };
+    public StatusStreamHandler(ZoomEventHub hub) {
+        this.hub = hub;
+    }
 
-        this.meetingService.addListener(statusListener);
+    @Override
+    public void onListen(Object arguments, final EventChannel.EventSink events) {
+        this.events = events;
+        this.queue = StatusEventQueue.fromArguments(arguments);
+        this.compact = isCompact(arguments);
+        hub.subscribe(statusSubscriber);
     }
 
     @Override
     public void onCancel(Object arguments) {
-        this.meetingService.removeListener(statusListener);
+        hub.unsubscribe(statusSubscriber);
+        handler.removeCallbacks(flushRunnable);
+        flushScheduled = false;
+        events = null;
+    }
 
+    static boolean isCompact(Object arguments) {
+        return arguments instanceof Map && "compact".equals(((Map<?, ?>) arguments).get("encoding"));
     }
 
-    private List<String> getMeetingStatusMessage(MeetingStatus meetingStatus) {
-        String[] message = new String[2];
-
-        message[0] = meetingStatus != null ? meetingStatus.name() : "";
-
-        switch (meetingStatus) {
-            case MEETING_STATUS_CONNECTING:
-                message[1] = "Connect to the meeting server.";
-                break;
-            case MEETING_STATUS_DISCONNECTING:
-                message[1] = "Disconnect the meeting server, user leaves meeting.";
-                break;
-            case MEETING_STATUS_FAILED:
-                message[1] = "Failed to connect the meeting server.";
-                break;
-            case MEETING_STATUS_IDLE:
-                message[1] = "No meeting is running";
-                break;
-            case MEETING_STATUS_IN_WAITING_ROOM:
-                message[1] = "Participants who join the meeting before the start are in the waiting room.";
-                break;
-            case MEETING_STATUS_INMEETING:
-                message[1] = "Meeting is ready and in process.";
-                break;
-            case MEETING_STATUS_RECONNECTING:
-                message[1] = "Reconnecting meeting server.";
-                break;
-            case MEETING_STATUS_UNKNOWN:
-                message[1] = "Unknown status.";
-                break;
-            case MEETING_STATUS_WAITINGFORHOST:
-                message[1] = "Waiting for the host to start the meeting.";
-                break;
-            case MEETING_STATUS_WEBINAR_DEPROMOTE:
-                message[1] = "Demote the attendees from the panelist.";
-                break;
-            case MEETING_STATUS_WEBINAR_PROMOTE:
-                message[1] = "Upgrade the attendees to panelist in webinar.";
-                break;
-            default:
-                message[1] = "No status available.";
-                break;
+    private void flush() {
+        if (events == null) {
+            return;
+        }
+
+        StatusEventQueue.StatusEvent event;
+        while ((event = queue.poll()) != null) {
+            events.success(getMeetingStatusEvent(event));
         }
+    }
 
-        return Arrays.asList(message);
+    private Object getMeetingStatusEvent(StatusEventQueue.StatusEvent event) {
+        StatusPayloads.Payload payload = payloadOf(event.status, event.errorCode);
+        if (compact) {
+            // the sink encodes the event before returning, so the array can be reused
+            return compactEvent(compactEvent, payload, event.sequence, event.errorCode, event.internalErrorCode);
+        }
+        return legacyEvent(payload, event.sequence);
     }
 
+    static StatusPayloads.Payload payloadOf(MeetingStatus status, int errorCode) {
+        if (status == MeetingStatus.MEETING_STATUS_FAILED && errorCode == MeetingError.MEETING_ERROR_CLIENT_INCOMPATIBLE) {
+            return StatusPayloads.CLIENT_INCOMPATIBLE;
+        }
+        return StatusPayloads.get(status);
+    }
+
+    /**
+     * The [status, description, sequence number] event. Only the list is allocated, the strings
+     * are those of the precomputed payload.
+     */
+    static List<Object> legacyEvent(StatusPayloads.Payload payload, long sequence) {
+        return Arrays.<Object>asList(payload.name, payload.description, sequence);
+    }
+
+    static long[] compactEvent(long[] event, StatusPayloads.Payload payload, long sequence, int errorCode,
+                               int internalErrorCode) {
+        event[0] = sequence;
+        event[1] = payload.code;
+        event[2] = errorCode;
+        event[3] = internalErrorCode;
+        return event;
+    }
 }
@@ -0,0 +1,150 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.List;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class keeps the current host pinned and/or spotlighted once Dart asked for it.
+ *
+ * The policy is re-applied from the callbacks that can move or reset the host video: host
+ * changes, user joins (a late host) and entering the meeting again after a reconnect. Bursts of
+ * callbacks are debounced into one application, which only calls the SDK when the target
+ * changed. Main thread only.
+ */
+class VideoLayoutPolicy extends ZoomEventHub.Subscriber {
+
+    static final long DEBOUNCE_MS = 250;
+
+    private static VideoLayoutPolicy instance;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable applyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            apply();
+        }
+    };
+
+    private ZoomSdkFacade sdk;
+    private boolean pinHost;
+    private boolean spotlightHost;
+    // the users the SDK was last told to pin and spotlight
+    private long pinned = RosterIndex.NO_USER;
+    private long spotlighted = RosterIndex.NO_USER;
+
+    static VideoLayoutPolicy getInstance() {
+        if (instance == null) {
+            instance = new VideoLayoutPolicy();
+        }
+        return instance;
+    }
+
+    private VideoLayoutPolicy() {
+    }
+
+    void attach(ZoomEventHub hub, ZoomSdkFacade sdk) {
+        if (sdk == null || this.sdk == sdk) {
+            return;
+        }
+        this.sdk = sdk;
+        hub.subscribe(this);
+    }
+
+    void detach(ZoomEventHub hub) {
+        hub.unsubscribe(this);
+        handler.removeCallbacks(applyRunnable);
+        sdk = null;
+        forgetApplied();
+    }
+
+    /**
+     * Sets the standing policy and applies it right away.
+     */
+    void set(boolean pinHost, boolean spotlightHost) {
+        this.pinHost = pinHost;
+        this.spotlightHost = spotlightHost;
+        handler.removeCallbacks(applyRunnable);
+        apply();
+    }
+
+    boolean isActive() {
+        return pinHost || spotlightHost;
+    }
+
+    @Override
+    void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        if (meetingStatus == MeetingStatus.MEETING_STATUS_INMEETING) {
+            // the video layout does not survive a reconnect
+            forgetApplied();
+            schedule();
+        }
+    }
+
+    @Override
+    void onMeetingUserJoin(List<Long> userList) {
+        schedule();
+    }
+
+    @Override
+    void onMeetingHostChanged(long userId) {
+        schedule();
+    }
+
+    @Override
+    void onMeetingLeaveComplete(long ret) {
+        handler.removeCallbacks(applyRunnable);
+        forgetApplied();
+    }
+
+    private void schedule() {
+        if (!isActive() && pinned == RosterIndex.NO_USER && spotlighted == RosterIndex.NO_USER) {
+            return;
+        }
+        handler.removeCallbacks(applyRunnable);
+        handler.postDelayed(applyRunnable, DEBOUNCE_MS);
+    }
+
+    private void forgetApplied() {
+        pinned = RosterIndex.NO_USER;
+        spotlighted = RosterIndex.NO_USER;
+    }
+
+    private void apply() {
+        ZoomSdkFacade.InMeetingSession session = sdk != null ? sdk.openInMeetingSession() : null;
+        if (session == null) {
+            return;
+        }
+        long hostId = RosterIndex.getInstance().getHostId();
+
+        long pinTarget = pinHost ? hostId : RosterIndex.NO_USER;
+        if (pinTarget != pinned) {
+            if (pinned != RosterIndex.NO_USER) {
+                session.pinVideo(false, pinned);
+                pinned = RosterIndex.NO_USER;
+            }
+            if (pinTarget != RosterIndex.NO_USER && session.pinVideo(true, pinTarget) == InMeetingConfigBatch.RESULT_SUCCESS) {
+                pinned = pinTarget;
+            }
+        }
+
+        long spotlightTarget = spotlightHost ? hostId : RosterIndex.NO_USER;
+        if (spotlightTarget != spotlighted) {
+            if (spotlighted != RosterIndex.NO_USER) {
+                session.spotlightVideo(false, spotlighted);
+                spotlighted = RosterIndex.NO_USER;
+            }
+            if (spotlightTarget != RosterIndex.NO_USER && session.spotlightVideo(true, spotlightTarget) == InMeetingConfigBatch.RESULT_SUCCESS) {
+                spotlighted = spotlightTarget;
+            }
+        }
+
+        if (ZoomLog.isEnabled(Log.DEBUG)) {
+            ZoomLog.d("video policy applied, host " + hostId + " pinned " + pinned + " spotlighted " + spotlighted);
+        }
+    }
+}
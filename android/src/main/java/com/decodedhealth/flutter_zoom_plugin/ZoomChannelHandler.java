@@ -0,0 +1,681 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.app.Activity;
+import android.content.Context;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+import us.zoom.sdk.StartMeetingParamsWithoutLogin;
+import us.zoom.sdk.StartMeetingOptions;
+import us.zoom.sdk.MeetingService;
+import us.zoom.sdk.MeetingStatus;
+import us.zoom.sdk.ZoomError;
+import us.zoom.sdk.ZoomSDKInitParams;
+
+import us.zoom.sdk.MeetingViewsOptions;
+
+
+/**
+ * This class owns the method and event channels of the plugin for one Flutter engine and handles
+ * the method calls. It is created when the plugin is attached to the engine, independently of
+ * any platform view.
+ *
+ * Calls needing a context use the current activity while one is attached, the application
+ * context otherwise.
+ */
+class ZoomChannelHandler implements MethodChannel.MethodCallHandler {
+    private final MethodChannel methodChannel;
+    private final Context applicationContext;
+    private Activity activity;
+    private final EventChannel meetingStatusChannel;
+    private final EventChannel authStatusChannel;
+    private final EventChannel participantChannel;
+    private final EventChannel metricsChannel;
+    private final EventChannel activeSpeakerChannel;
+    private final EventChannel qualityChannel;
+    private final EventChannel recoveryChannel;
+    private final EventChannel chatChannel;
+    private final StatusStreamHandler statusStreamHandler;
+    private final ParticipantStreamHandler participantStreamHandler;
+    private final MetricsStreamHandler metricsStreamHandler;
+    private final ActiveSpeakerStreamHandler activeSpeakerStreamHandler;
+    private final ChatStreamHandler chatStreamHandler;
+    private final SharedStream authStream;
+    private final SharedStream qualityStream;
+    private final SharedStream recoveryStream;
+    private final AutoRejoin.Rejoiner rejoiner;
+
+    ZoomChannelHandler(Context context, BinaryMessenger messenger) {
+        applicationContext = context.getApplicationContext();
+
+        methodChannel = new MethodChannel(messenger, "com.decodedhealth/flutter_zoom_plugin");
+        methodChannel.setMethodCallHandler(this);
+
+        statusStreamHandler = new StatusStreamHandler(ZoomEventHub.getInstance());
+        meetingStatusChannel = new EventChannel(messenger, "com.decodedhealth/zoom_event_stream");
+        meetingStatusChannel.setStreamHandler(statusStreamHandler);
+        authStatusChannel = new EventChannel(messenger, "com.decodedhealth/zoom_auth_event_stream");
+        authStream = new SharedStream(AuthSessionManager.getInstance());
+        authStatusChannel.setStreamHandler(authStream);
+
+        participantStreamHandler = new ParticipantStreamHandler(RosterIndex.getInstance());
+        participantChannel = new EventChannel(messenger, "com.decodedhealth/zoom_participant_stream");
+        participantChannel.setStreamHandler(participantStreamHandler);
+
+        metricsStreamHandler = new MetricsStreamHandler();
+        metricsChannel = new EventChannel(messenger, "com.decodedhealth/zoom_metrics_stream");
+        metricsChannel.setStreamHandler(metricsStreamHandler);
+
+        activeSpeakerStreamHandler = new ActiveSpeakerStreamHandler(ZoomEventHub.getInstance(), RosterIndex.getInstance());
+        activeSpeakerChannel = new EventChannel(messenger, "com.decodedhealth/zoom_active_speaker_stream");
+        activeSpeakerChannel.setStreamHandler(activeSpeakerStreamHandler);
+
+        qualityChannel = new EventChannel(messenger, "com.decodedhealth/zoom_quality_stream");
+        qualityStream = new SharedStream(QualitySampler.getInstance());
+        qualityChannel.setStreamHandler(qualityStream);
+
+        recoveryChannel = new EventChannel(messenger, "com.decodedhealth/zoom_recovery_stream");
+        recoveryStream = new SharedStream(AutoRejoin.getInstance());
+        recoveryChannel.setStreamHandler(recoveryStream);
+
+        chatStreamHandler = new ChatStreamHandler(ZoomEventHub.getInstance());
+        chatChannel = new EventChannel(messenger, "com.decodedhealth/zoom_chat_stream");
+        chatChannel.setStreamHandler(chatStreamHandler);
+        rejoiner = new AutoRejoin.Rejoiner() {
+            @Override
+            public int rejoin(MeetingRequest request) {
+                ZoomSdkFacade sdk = SdkProvider.get();
+                return sdk.isInitialized() ? sdk.joinMeeting(context(), request) : 998;
+            }
+        };
+        AutoRejoin.getInstance().setRejoiner(rejoiner);
+    }
+
+    void setActivity(Activity activity) {
+        this.activity = activity;
+    }
+
+    private Context context() {
+        return activity != null ? activity : applicationContext;
+    }
+
+    @Override
+    public void onMethodCall(final MethodCall methodCall, final MethodChannel.Result result) {
+        CommandScheduler.Command command;
+        switch (methodCall.method) {
+            case "join":
+            case "start_instant_meeting":
+            case "prepare_join":
+                command = new MeetingCommand(methodCall, result);
+                break;
+            default:
+                command = new CommandScheduler.Command(result) {
+                    @Override
+                    void run() {
+                        dispatch(methodCall, result);
+                    }
+                };
+        }
+        CommandScheduler.getInstance().submit(methodCall.method, command);
+    }
+
+    private void dispatch(MethodCall methodCall, MethodChannel.Result result) {
+        switch (methodCall.method) {
+            case "init":
+                init(methodCall, result);
+                break;
+            case "start":
+                startMeeting(methodCall, result);
+                break;
+            case "meeting_status":
+                meetingStatus(result);
+                break;
+            case "get_state":
+                result.success(MeetingStateTracker.getInstance().get().stateReply);
+                break;
+            case "in_meeting":
+                inMeeting(methodCall, result);
+                break;
+            case "in_meeting_config":
+                inMeetingConfig(methodCall, result);
+                break;
+            case "in_meeting_config_batch":
+                inMeetingConfigBatch(methodCall, result);
+                break;
+            case "set_video_policy":
+                setVideoPolicy(methodCall, result);
+                break;
+            case "start_quality_sampler":
+                startQualitySampler(methodCall, result);
+                break;
+            case "send_chat_batch":
+                sendChatBatch(methodCall, result);
+                break;
+            case "set_auto_rejoin":
+                setAutoRejoin(methodCall, result);
+                break;
+            case "stop_quality_sampler":
+                QualitySampler.getInstance().stop();
+                result.success(null);
+                break;
+            case "login_with_email":
+                loginWithEmail(methodCall,result);
+                break;
+            case "login_with_sso":
+                loginWithSso(methodCall,result);
+                break;
+            case "logout":
+                logout(result);
+                break;
+            case "get_meeting_password":
+                getMeetingPassword(result);
+                break;
+            case "get_logged_account_info":
+                getLoggedAccountInfo(result);
+                break;
+            case "get_init_timings":
+                getInitTimings(result);
+                break;
+            case "get_status_descriptions":
+                result.success(StatusPayloads.getDescriptions());
+                break;
+            case "get_participant_names":
+                getParticipantNames(methodCall, result);
+                break;
+            case "get_participants":
+                getParticipants(methodCall, result);
+                break;
+            case "set_log_level":
+                setLogLevel(methodCall, result);
+                break;
+            case "dump_logs":
+                dumpLogs(methodCall, result);
+                break;
+            case "get_metrics":
+                result.success(MetricsRegistry.getInstance().getMetrics());
+                break;
+            case "get_scheduler_stats":
+                result.success(CommandScheduler.getInstance().getStats());
+                break;
+            case "releaseListener":
+            releaseListener();
+                break;
+            default:
+                result.notImplemented();
+        }
+
+    }
+
+    private void init(final MethodCall methodCall, final MethodChannel.Result result) {
+
+        Map<String, String> options = methodCall.arguments();
+
+        ZoomSDKInitParams initParams = new ZoomSDKInitParams();
+        initParams.jwtToken = options.get("sdkToken");
+        initParams.appKey = options.get("appKey");
+        initParams.appSecret = options.get("appSecret");
+        initParams.domain = options.get("domain");
+
+        final String langCode = options.get("langCode");
+        final PendingCallRegistry calls = PendingCallRegistry.getInstance();
+        final long callId = calls.register(this, "init", result, timeoutArgument(options));
+        SdkInitCoordinator.getInstance().initialize(
+                context(),
+                initParams,
+                new SdkInitCoordinator.Callback() {
+                    @Override
+                    public void onInitResult(int errorCode, int internalErrorCode) {
+                        List<Integer> response = Arrays.asList(errorCode, internalErrorCode);
+
+                        if (errorCode != ZoomError.ZOOM_ERROR_SUCCESS) {
+                            calls.success(callId, response);
+                            return;
+                        }
+
+                        ZoomSdkFacade sdk = SdkProvider.get();
+                        sdk.setLocale(context(),new Locale(langCode));
+
+                        ZoomEventHub hub = ZoomEventHub.getInstance();
+                        hub.attach(sdk);
+                        RosterIndex.getInstance().attach(hub, sdk);
+                        MeetingStateTracker.getInstance().attach(hub, sdk);
+                        VideoLayoutPolicy.getInstance().attach(hub, sdk);
+                        calls.success(callId, response);
+                    }
+
+                    @Override
+                    public void onParamsChanged() {
+                        calls.error(callId, SdkInitCoordinator.ERROR_PARAMS_CHANGED,
+                                "SDK already initialized with other parameters, saved for the next start", null);
+                    }
+                });
+    }
+
+    private void setLogLevel(MethodCall methodCall, MethodChannel.Result result) {
+        String name = methodCall.argument("level");
+        int level = ZoomLog.parseLevel(name);
+        if (level < 0) {
+            result.error("INVALID_ARGUMENTS", "Unknown log level " + name, null);
+            return;
+        }
+        ZoomLog.setLevel(level);
+        result.success(null);
+    }
+
+    private void dumpLogs(MethodCall methodCall, MethodChannel.Result result) {
+        Integer limit = methodCall.argument("limit");
+        result.success(ZoomLog.dump(limit != null ? limit : ZoomLog.CAPACITY));
+    }
+
+    private void getInitTimings(MethodChannel.Result result) {
+        result.success(SdkInitCoordinator.getInstance().getTimings());
+    }
+
+    private void releaseListener(){
+        ZoomEventHub hub = ZoomEventHub.getInstance();
+        RosterIndex.getInstance().detach(hub);
+        MeetingStateTracker.getInstance().detach(hub);
+        VideoLayoutPolicy.getInstance().detach(hub);
+        QualitySampler.getInstance().stop();
+        AutoRejoin.getInstance().forget();
+        hub.detach();
+    }
+
+    /**
+     * Cancels the stream handlers, they stop receiving events from the hub. The shared ones are
+     * only cancelled while they still send to this engine.
+     */
+    private void releaseStreams() {
+        statusStreamHandler.onCancel(null);
+        participantStreamHandler.onCancel(null);
+        metricsStreamHandler.onCancel(null);
+        activeSpeakerStreamHandler.onCancel(null);
+        qualityStream.onCancel(null);
+        recoveryStream.onCancel(null);
+        chatStreamHandler.onCancel(null);
+        authStream.onCancel(null);
+    }
+
+    /**
+     * The channel of this engine to a shared stream handler, keeping the sink it listened with.
+     */
+    private static final class SharedStream implements EventChannel.StreamHandler {
+        private final SharedStreamHandler target;
+        private EventChannel.EventSink events;
+
+        SharedStream(SharedStreamHandler target) {
+            this.target = target;
+        }
+
+        @Override
+        public void onListen(Object arguments, EventChannel.EventSink events) {
+            this.events = events;
+            target.onListen(arguments, events);
+        }
+
+        @Override
+        public void onCancel(Object arguments) {
+            if (events != null) {
+                target.cancel(events);
+                events = null;
+            }
+        }
+    }
+
+    private void inMeeting(MethodCall methodCall, MethodChannel.Result result){
+        ZoomSdkFacade sdk = SdkProvider.get();
+        sdk.connectAudioWithVoip();
+
+        long hostId = RosterIndex.getInstance().getHostId();
+        if(hostId != RosterIndex.NO_USER) {
+            sdk.pinVideo(true,hostId);
+        }
+        result.success(null);
+    }
+
+    private void inMeetingConfig(MethodCall methodCall, MethodChannel.Result result){
+        Map<String, String> options = methodCall.arguments();
+        List<Object> operations = InMeetingConfigBatch.fromLegacyOptions(options);
+        runInMeetingConfigBatch(operations, false, result);
+    }
+
+    /**
+     * Sets the standing host pin/spotlight policy, kept applied natively across host changes.
+     */
+    private void setVideoPolicy(MethodCall methodCall, MethodChannel.Result result){
+        Boolean pinHost = methodCall.argument("pinHost");
+        Boolean spotlightHost = methodCall.argument("spotlightHost");
+        VideoLayoutPolicy.getInstance().set(pinHost != null && pinHost, spotlightHost != null && spotlightHost);
+        result.success(null);
+    }
+
+    /**
+     * Sends the messages in one platform call, "userIds" (0 for everyone) and "contents" being
+     * parallel lists, and answers one InMeetingConfigBatch result code per message.
+     */
+    private void sendChatBatch(MethodCall methodCall, MethodChannel.Result result){
+        List<Number> userIds = methodCall.argument("userIds");
+        List<String> contents = methodCall.argument("contents");
+        if (userIds == null || contents == null || userIds.size() != contents.size()) {
+            result.error("INVALID_ARGUMENTS", "userIds and contents must have the same length", null);
+            return;
+        }
+
+        ZoomSdkFacade sdk = SdkProvider.get();
+        int[] results = new int[contents.size()];
+        for (int i = 0; i < results.length; i++) {
+            Number userId = userIds.get(i);
+            results[i] = sdk.sendChat(userId != null ? userId.longValue() : RosterIndex.NO_USER, contents.get(i));
+        }
+        result.success(results);
+    }
+
+    private void setAutoRejoin(MethodCall methodCall, MethodChannel.Result result){
+        Boolean enabled = methodCall.argument("enabled");
+        Number maxAttempts = methodCall.argument("maxAttempts");
+        Number baseDelayMs = methodCall.argument("baseDelayMs");
+        Number maxDelayMs = methodCall.argument("maxDelayMs");
+        AutoRejoin.getInstance().configure(ZoomEventHub.getInstance(), SdkProvider.get(), enabled != null && enabled,
+                maxAttempts != null ? maxAttempts.intValue() : AutoRejoin.DEFAULT_MAX_ATTEMPTS,
+                baseDelayMs != null ? baseDelayMs.longValue() : AutoRejoin.DEFAULT_BASE_DELAY_MS,
+                maxDelayMs != null ? maxDelayMs.longValue() : AutoRejoin.DEFAULT_MAX_DELAY_MS);
+        result.success(null);
+    }
+
+    private void startQualitySampler(MethodCall methodCall, MethodChannel.Result result){
+        Number intervalMs = methodCall.argument("intervalMs");
+        Number windowMs = methodCall.argument("windowMs");
+        QualitySampler.getInstance().start(ZoomEventHub.getInstance(), SdkProvider.get(),
+                intervalMs != null ? intervalMs.longValue() : QualitySampler.DEFAULT_INTERVAL_MS,
+                windowMs != null ? windowMs.longValue() : QualitySampler.DEFAULT_WINDOW_MS);
+        result.success(null);
+    }
+
+    private void inMeetingConfigBatch(MethodCall methodCall, MethodChannel.Result result){
+        List<Object> operations = methodCall.argument("operations");
+        Boolean stopOnFailure = methodCall.argument("stopOnFailure");
+        runInMeetingConfigBatch(operations, stopOnFailure != null && stopOnFailure, result);
+    }
+
+    private void runInMeetingConfigBatch(List<Object> operations, boolean stopOnFailure, MethodChannel.Result result){
+        int[] results = InMeetingConfigBatch.run(SdkProvider.get(), operations, stopOnFailure);
+        if (ZoomLog.isEnabled(Log.DEBUG)) {
+            ZoomLog.d("in meeting config " + operations + " -> " + Arrays.toString(results));
+        }
+        result.success(results);
+    }
+    
+    private void getParticipantNames(MethodCall methodCall, MethodChannel.Result result){
+        List<Number> ids = methodCall.arguments();
+        RosterIndex roster = RosterIndex.getInstance();
+        List<String> names = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            RosterIndex.Participant participant = roster.get(ids.get(i).longValue());
+            names.add(participant != null ? participant.name : null);
+        }
+        result.success(names);
+    }
+
+    /**
+     * The roster, or a page of it, in columns: "fields" is a ParticipantQuery.FIELD_ mask, all of
+     * them by default, "offset" and "limit" select the page, the whole roster by default.
+     */
+    private void getParticipants(MethodCall methodCall, MethodChannel.Result result){
+        Number fields = methodCall.argument("fields");
+        Number offset = methodCall.argument("offset");
+        Number limit = methodCall.argument("limit");
+        result.success(ParticipantQuery.run(
+                RosterIndex.getInstance(),
+                fields != null ? fields.intValue() : ParticipantQuery.FIELD_ALL,
+                offset != null ? offset.intValue() : 0,
+                limit != null ? limit.intValue() : 0));
+    }
+
+    private void getMeetingPassword(MethodChannel.Result result){
+        ZoomSdkFacade sdk = SdkProvider.get();
+        result.success(Arrays.asList(String.valueOf(sdk.getCurrentMeetingNumber()),sdk.getMeetingPassword()));
+    }
+
+    private void getLoggedAccountInfo(MethodChannel.Result result){
+        String[] accountInfo = SdkProvider.get().getAccountInfo();
+        if (accountInfo == null) {
+            result.success(Arrays.asList("",""));
+            return;
+        }
+        result.success(Arrays.asList(accountInfo));
+    }
+
+    private void startMeeting(MethodCall methodCall, MethodChannel.Result result) {
+
+        Map<String, String> options = methodCall.arguments();
+
+        ZoomSdkFacade sdk = SdkProvider.get();
+
+        if(!sdk.isInitialized()) {
+            ZoomLog.w("not initialized");
+            result.success(false);
+            return;
+        }
+
+        AutoRejoin.getInstance().forget();
+        StartMeetingOptions opts = new StartMeetingOptions();
+        opts.no_invite = parseBoolean(options, "disableInvite", false);
+        opts.no_share = parseBoolean(options, "disableShare", false);
+        opts.no_driving_mode = parseBoolean(options, "disableDrive", false);
+        opts.no_dial_in_via_phone = parseBoolean(options, "disableDialIn", false);
+        opts.no_disconnect_audio = parseBoolean(options, "noDisconnectAudio", false);
+        opts.no_audio = parseBoolean(options, "noAudio", false);
+
+        StartMeetingParamsWithoutLogin params = new StartMeetingParamsWithoutLogin();
+
+		params.userId = options.get("userId");
+        params.displayName = options.get("displayName");
+        params.meetingNo = options.get("meetingId");
+		params.userType = MeetingService.USER_TYPE_API_USER;
+		// params.zoomToken = options.get("zoomToken");
+		params.zoomAccessToken = options.get("zoomAccessToken");
+		
+        sdk.startMeeting(context(), params, opts);
+
+        result.success(true);
+    }
+
+    private void startInstantMeeting(MeetingRequest request, MethodChannel.Result result) {
+        ZoomSdkFacade sdk = SdkProvider.get();
+
+        if(!sdk.isInitialized()) {
+            ZoomLog.w("not initialized");
+            result.success(998);
+            return;
+        }
+
+        // if(!sdk.isLoggedIn()) {
+        //     result.success(999);
+        //     return;
+        // }
+
+        AutoRejoin.getInstance().forget();
+        result.success(sdk.startInstantMeeting(context(), request));
+    }
+
+    private void joinMeeting(MeetingRequest request, MethodChannel.Result result) {
+
+        ZoomSdkFacade sdk = SdkProvider.get();
+
+        if(!sdk.isInitialized()) {
+            ZoomLog.w("not initialized");
+            result.success(998);
+            return;
+        }
+
+        MetricsRegistry.getInstance().markJoinStarted();
+        AutoRejoin.getInstance().remember(request);
+        result.success(sdk.joinMeeting(context(), request));
+    }
+
+    private void prepareJoin(MeetingRequest request, MethodChannel.Result result) {
+        ZoomSdkFacade sdk = SdkProvider.get();
+
+        if(!sdk.isInitialized()) {
+            result.success(false);
+            return;
+        }
+
+        sdk.prepareMeeting(context(), request);
+        result.success(true);
+    }
+
+    /**
+     * A join, instant meeting start or join preparation. The meeting options are decoded on the scheduler worker,
+     * either from the packed binary payload or from the legacy string map.
+     */
+    private class MeetingCommand extends CommandScheduler.Command {
+        private final MethodCall methodCall;
+        private MeetingRequest request;
+        private String errorCode;
+        private String errorMessage;
+
+        MeetingCommand(MethodCall methodCall, MethodChannel.Result result) {
+            super(result);
+            this.methodCall = methodCall;
+        }
+
+        @Override
+        void prepare() {
+            if (!(methodCall.arguments instanceof byte[])) {
+                Map<String, String> options = methodCall.arguments();
+                request = MeetingOptionsCodec.fromMap(options);
+                return;
+            }
+
+            try {
+                request = MeetingOptionsCodec.decode((byte[]) methodCall.arguments);
+            } catch (IllegalArgumentException e) {
+                errorCode = "INVALID_ARGUMENTS";
+                errorMessage = e.getMessage();
+                return;
+            }
+
+            if (request == null) {
+                errorCode = "UNSUPPORTED_CODEC_VERSION";
+                errorMessage = "Meeting options codec version is not supported";
+            }
+        }
+
+        @Override
+        void run() {
+            if (errorCode != null) {
+                result.error(errorCode, errorMessage, null);
+            } else if ("join".equals(methodCall.method)) {
+                joinMeeting(request, result);
+            } else if ("prepare_join".equals(methodCall.method)) {
+                prepareJoin(request, result);
+            } else {
+                startInstantMeeting(request, result);
+            }
+        }
+    }
+   
+
+    private void meetingStatus(MethodChannel.Result result) {
+
+        MeetingStateSnapshot state = MeetingStateTracker.getInstance().get();
+        if (state.status != null) {
+            result.success(state.statusReply);
+            return;
+        }
+
+        ZoomSdkFacade sdk = SdkProvider.get();
+
+        if(!sdk.isInitialized()) {
+            ZoomLog.w("not initialized");
+            result.success(Arrays.asList("MEETING_STATUS_UNKNOWN", "SDK not initialized"));
+            return;
+        }
+
+        if(!sdk.hasMeetingService()) {
+            result.success(Arrays.asList("MEETING_STATUS_UNKNOWN", "No status available"));
+            return;
+        }
+
+        MeetingStatus status = sdk.getMeetingStatus();
+        result.success(status != null ? Arrays.asList(status.name(), "") :  Arrays.asList("MEETING_STATUS_UNKNOWN", "No status available"));
+    }
+
+    private void loginWithEmail(final MethodCall methodCall,final MethodChannel.Result result) {
+        Map<String, String> options = methodCall.arguments();
+        final long callId = PendingCallRegistry.getInstance().register(this, "login_with_email", result, timeoutArgument(options));
+        AuthSessionManager.getInstance().login(context(), options.get("email"), options.get("password"),
+                new AuthSessionManager.Callback() {
+                    @Override
+                    public void onLoginResult(long loginResult) {
+                        PendingCallRegistry.getInstance().success(callId, loginResult);
+                    }
+                });
+    }
+
+    /**
+     * The "timeoutMs" option of the calls answered from SDK callbacks, the registry default when
+     * absent or invalid.
+     */
+    private static long timeoutArgument(Map<String, String> options) {
+        String timeoutMs = options.get("timeoutMs");
+        if (timeoutMs != null) {
+            try {
+                return Long.parseLong(timeoutMs);
+            } catch (NumberFormatException e) {
+                ZoomLog.w("invalid timeoutMs: ", timeoutMs);
+            }
+        }
+        return PendingCallRegistry.DEFAULT_TIMEOUT_MS;
+    }
+    
+    private void loginWithSso(MethodCall methodCall, MethodChannel.Result result) {
+        Map<String, String> options = methodCall.arguments();
+        ZoomSdkFacade sdk = SdkProvider.get();
+        if(sdk.isLoggedIn()) {
+            ZoomLog.d("already logged in, trying auto login");
+            result.success(sdk.tryAutoLoginZoom());
+        }else{
+            // result.success(zoomSDK.loginWithSSOToken(options.get("token")));
+        }
+    }
+    
+    
+    private void logout(MethodChannel.Result result) {
+        AuthSessionManager.getInstance().logout();
+        result.success(true);
+    }
+
+    private boolean parseBoolean(Map<String, String> options, String property, boolean defaultValue) {
+        return options.get(property) == null ? defaultValue : Boolean.parseBoolean(options.get(property));
+    }
+
+    /**
+     * Unbinds the channels, when the plugin is detached from the engine.
+     */
+    void dispose() {
+        releaseStreams();
+        methodChannel.setMethodCallHandler(null);
+        meetingStatusChannel.setStreamHandler(null);
+        authStatusChannel.setStreamHandler(null);
+        participantChannel.setStreamHandler(null);
+        metricsChannel.setStreamHandler(null);
+        activeSpeakerChannel.setStreamHandler(null);
+        qualityChannel.setStreamHandler(null);
+        recoveryChannel.setStreamHandler(null);
+        chatChannel.setStreamHandler(null);
+        AutoRejoin.getInstance().removeRejoiner(rejoiner);
+        PendingCallRegistry.getInstance().clear(this);
+        activity = null;
+    }
+}
@@ -0,0 +1,228 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import us.zoom.sdk.MeetingStatus;
+
+/**
+ * This class is the single listener of the SDK facade and fans the callbacks out to any number
+ * of subscribers.
+ *
+ * Subscribers are kept in a copy-on-write list, so dispatching never locks and a subscriber may
+ * unsubscribe from within a callback.
+ */
+class ZoomEventHub {
+
+    /**
+     * Receives the SDK callbacks. Every method does nothing by default.
+     */
+    abstract static class Subscriber {
+        void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+        }
+
+        void onMeetingUserJoin(List<Long> userList) {
+        }
+
+        void onMeetingUserLeave(List<Long> userList) {
+        }
+
+        void onMeetingHostChanged(long userId) {
+        }
+
+        void onMeetingCoHostChanged(long userId) {
+        }
+
+        void onUserAudioStatusChanged(long userId) {
+        }
+
+        void onUserVideoStatusChanged(long userId) {
+        }
+
+        void onActiveSpeakerVideoUserChanged(long userId) {
+        }
+
+        void onActiveVideoUserChanged(long userId) {
+        }
+
+        void onUserNetworkQualityChanged(long userId) {
+        }
+
+        void onChatMessageReceived(ChatMessageInfo message) {
+        }
+
+        void onMeetingLeaveComplete(long ret) {
+        }
+
+        void onZoomSDKLoginResult(long result) {
+        }
+
+        void onZoomSDKLogoutResult(long result) {
+        }
+
+        void onZoomIdentityExpired() {
+        }
+    }
+
+    private static ZoomEventHub instance;
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final Subscriber dispatcher = new Subscriber() {
+        @Override
+        void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingStatusChanged(meetingStatus, errorCode, internalErrorCode);
+            }
+        }
+
+        @Override
+        void onMeetingUserJoin(List<Long> userList) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingUserJoin(userList);
+            }
+        }
+
+        @Override
+        void onMeetingUserLeave(List<Long> userList) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingUserLeave(userList);
+            }
+        }
+
+        @Override
+        void onMeetingHostChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingHostChanged(userId);
+            }
+        }
+
+        @Override
+        void onMeetingCoHostChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingCoHostChanged(userId);
+            }
+        }
+
+        @Override
+        void onUserAudioStatusChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onUserAudioStatusChanged(userId);
+            }
+        }
+
+        @Override
+        void onUserVideoStatusChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onUserVideoStatusChanged(userId);
+            }
+        }
+
+        @Override
+        void onActiveSpeakerVideoUserChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onActiveSpeakerVideoUserChanged(userId);
+            }
+        }
+
+        @Override
+        void onActiveVideoUserChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onActiveVideoUserChanged(userId);
+            }
+        }
+
+        @Override
+        void onUserNetworkQualityChanged(long userId) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onUserNetworkQualityChanged(userId);
+            }
+        }
+
+        @Override
+        void onChatMessageReceived(ChatMessageInfo message) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onChatMessageReceived(message);
+            }
+        }
+
+        @Override
+        void onMeetingLeaveComplete(long ret) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onMeetingLeaveComplete(ret);
+            }
+        }
+
+        @Override
+        void onZoomSDKLoginResult(long result) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onZoomSDKLoginResult(result);
+            }
+        }
+
+        @Override
+        void onZoomSDKLogoutResult(long result) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onZoomSDKLogoutResult(result);
+            }
+        }
+
+        @Override
+        void onZoomIdentityExpired() {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onZoomIdentityExpired();
+            }
+        }
+    };
+
+    private ZoomSdkFacade sdk;
+    // the meeting and in-meeting services were there when the listener was registered
+    private boolean listensToServices;
+
+    static ZoomEventHub getInstance() {
+        if (instance == null) {
+            instance = new ZoomEventHub();
+        }
+        return instance;
+    }
+
+    private ZoomEventHub() {
+    }
+
+    /**
+     * Becomes the SDK listener. Calling it again while attached does nothing, unless the meeting
+     * services were missing, as before init: the listener is then registered again to pick them up.
+     */
+    void attach(ZoomSdkFacade sdk) {
+        if (this.sdk == sdk && listensToServices) {
+            return;
+        }
+        if (this.sdk != sdk) {
+            detach();
+        }
+
+        this.sdk = sdk;
+        sdk.setListener(dispatcher);
+        listensToServices = sdk.hasMeetingService() && sdk.hasInMeetingService();
+    }
+
+    /**
+     * Stops listening to the SDK. Subscribers stay registered and receive callbacks again after
+     * the next {@link #attach(ZoomSdkFacade)}.
+     */
+    void detach() {
+        if (sdk != null) {
+            sdk.setListener(null);
+            sdk = null;
+            listensToServices = false;
+        }
+    }
+
+    void subscribe(Subscriber subscriber) {
+        subscribers.addIfAbsent(subscriber);
+    }
+
+    void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
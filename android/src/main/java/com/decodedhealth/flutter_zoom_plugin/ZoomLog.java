@@ -0,0 +1,184 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class is the plugin logger.
+ *
+ * Entries are written into a fixed-size ring buffer of preallocated arrays and copied to logcat
+ * by a background thread, so logging never does I/O on the calling thread. Entries below the
+ * current level are discarded before any string is built: use the overloads taking a value rather
+ * than concatenating at the call site. The most recent entries can be dumped for bug reports.
+ * Levels are the android.util.Log priorities.
+ */
+final class ZoomLog {
+
+    static final String TAG = "ZOOM SDK FLUTTER";
+    static final int CAPACITY = 512;
+
+    private static final String[] LEVEL_NAMES = {"", "", "V", "D", "I", "W", "E", "A"};
+
+    private static final long[] times = new long[CAPACITY];
+    private static final int[] levels = new int[CAPACITY];
+    private static final String[] messages = new String[CAPACITY];
+    private static final Object lock = new Object();
+
+    private static final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private static final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drainScheduled.set(false);
+            drain();
+        }
+    };
+
+    private static volatile int level = Log.INFO;
+    // total number of entries written, and the number copied to logcat
+    private static long written;
+    private static long drained;
+    private static Handler drainHandler;
+
+    private ZoomLog() {
+    }
+
+    static void setLevel(int newLevel) {
+        level = Math.max(Log.VERBOSE, Math.min(Log.ASSERT, newLevel));
+    }
+
+    static int getLevel() {
+        return level;
+    }
+
+    /**
+     * Reads a level name as sent from Dart: verbose, debug, info, warn, error or none.
+     * Returns -1 for an unknown name.
+     */
+    static int parseLevel(String name) {
+        if ("verbose".equals(name)) {
+            return Log.VERBOSE;
+        } else if ("debug".equals(name)) {
+            return Log.DEBUG;
+        } else if ("info".equals(name)) {
+            return Log.INFO;
+        } else if ("warn".equals(name)) {
+            return Log.WARN;
+        } else if ("error".equals(name)) {
+            return Log.ERROR;
+        } else if ("none".equals(name)) {
+            return Log.ASSERT;
+        }
+        return -1;
+    }
+
+    static boolean isEnabled(int priority) {
+        return priority >= level;
+    }
+
+    static void d(String message) {
+        write(Log.DEBUG, message);
+    }
+
+    static void d(String message, Object value) {
+        if (isEnabled(Log.DEBUG)) {
+            write(Log.DEBUG, message + value);
+        }
+    }
+
+    static void i(String message) {
+        write(Log.INFO, message);
+    }
+
+    static void i(String message, long value) {
+        if (isEnabled(Log.INFO)) {
+            write(Log.INFO, message + value);
+        }
+    }
+
+    static void w(String message) {
+        write(Log.WARN, message);
+    }
+
+    static void w(String message, Object value) {
+        if (isEnabled(Log.WARN)) {
+            write(Log.WARN, message + value);
+        }
+    }
+
+    static void e(String message) {
+        write(Log.ERROR, message);
+    }
+
+    static void e(String message, long first, long second) {
+        if (isEnabled(Log.ERROR)) {
+            write(Log.ERROR, message + first + " / " + second);
+        }
+    }
+
+    private static void write(int priority, String message) {
+        if (priority < level) {
+            return;
+        }
+
+        synchronized (lock) {
+            int slot = (int) (written % CAPACITY);
+            times[slot] = SystemClock.elapsedRealtime();
+            levels[slot] = priority;
+            messages[slot] = message;
+            written++;
+        }
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            handler().post(drainRunnable);
+        }
+    }
+
+    private static void drain() {
+        while (true) {
+            int priority;
+            String message;
+            synchronized (lock) {
+                if (drained == written) {
+                    return;
+                }
+                // entries overwritten before being drained are lost
+                drained = Math.max(drained, written - CAPACITY);
+                int slot = (int) (drained % CAPACITY);
+                priority = levels[slot];
+                message = messages[slot];
+                drained++;
+            }
+            Log.println(priority, TAG, message);
+        }
+    }
+
+    /**
+     * The entries still in the buffer, oldest first, as "elapsed-ms level message".
+     */
+    static List<String> dump(int limit) {
+        synchronized (lock) {
+            long count = Math.min(Math.min(written, CAPACITY), Math.max(0, limit));
+            List<String> entries = new ArrayList<>((int) count);
+            for (long i = written - count; i < written; i++) {
+                int slot = (int) (i % CAPACITY);
+                entries.add(times[slot] + " " + LEVEL_NAMES[levels[slot]] + " " + messages[slot]);
+            }
+            return entries;
+        }
+    }
+
+    private static synchronized Handler handler() {
+        if (drainHandler == null) {
+            HandlerThread thread = new HandlerThread("zoom-log");
+            thread.start();
+            drainHandler = new Handler(thread.getLooper());
+        }
+        return drainHandler;
+    }
+}
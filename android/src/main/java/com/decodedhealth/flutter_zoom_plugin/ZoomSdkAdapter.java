@@ -0,0 +1,529 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+
+import java.util.List;
+import java.util.Locale;
+
+import us.zoom.sdk.AccountService;
+import us.zoom.sdk.InMeetingAudioController;
+import us.zoom.sdk.InMeetingChatController;
+import us.zoom.sdk.InMeetingChatMessage;
+import us.zoom.sdk.InMeetingService;
+import us.zoom.sdk.InMeetingServiceListener;
+import us.zoom.sdk.InMeetingUserInfo;
+import us.zoom.sdk.InMeetingVideoController;
+import us.zoom.sdk.JoinMeetingOptions;
+import us.zoom.sdk.JoinMeetingParams;
+import us.zoom.sdk.MeetingService;
+import us.zoom.sdk.MeetingServiceListener;
+import us.zoom.sdk.MeetingSettingsHelper;
+import us.zoom.sdk.MeetingStatus;
+import us.zoom.sdk.SimpleInMeetingListener;
+import us.zoom.sdk.StartMeetingOptions;
+import us.zoom.sdk.StartMeetingParamsWithoutLogin;
+import us.zoom.sdk.ZoomSDK;
+import us.zoom.sdk.ZoomSDKAuthenticationListener;
+import us.zoom.sdk.ZoomSDKInitParams;
+import us.zoom.sdk.ZoomSDKInitializeListener;
+
+/**
+ * This class implements the {@link ZoomSdkFacade} over the real Zoom SDK.
+ *
+ * It registers exactly one listener with each SDK service (meeting, in-meeting and auth) while a
+ * listener is set, and forwards the callbacks to it.
+ *
+ * The options of the last prepared meeting request are kept, and the locale and meeting settings
+ * last written are remembered so that unchanged values are not written again. The settings UI, or
+ * any other MeetingSettingsHelper user, can change them behind our back, so they are forgotten
+ * whenever a meeting ends and written again for the next one.
+ */
+class ZoomSdkAdapter implements ZoomSdkFacade {
+
+    private final MeetingServiceListener meetingListener = new MeetingServiceListener() {
+        @Override
+        public void onMeetingStatusChanged(MeetingStatus meetingStatus, int errorCode, int internalErrorCode) {
+            if (meetingStatus == MeetingStatus.MEETING_STATUS_IDLE || meetingStatus == MeetingStatus.MEETING_STATUS_FAILED) {
+                forgetSettings();
+            }
+            listener.onMeetingStatusChanged(meetingStatus, errorCode, internalErrorCode);
+        }
+    };
+
+    private final InMeetingServiceListener inMeetingListener = new SimpleInMeetingListener() {
+        @Override
+        public void onMeetingUserJoin(List<Long> userList) {
+            listener.onMeetingUserJoin(userList);
+        }
+
+        @Override
+        public void onMeetingUserLeave(List<Long> userList) {
+            listener.onMeetingUserLeave(userList);
+        }
+
+        @Override
+        public void onMeetingHostChanged(long userId) {
+            listener.onMeetingHostChanged(userId);
+        }
+
+        @Override
+        public void onMeetingCoHostChanged(long userId) {
+            listener.onMeetingCoHostChanged(userId);
+        }
+
+        @Override
+        public void onUserAudioStatusChanged(long userId, InMeetingServiceListener.AudioStatus audioStatus) {
+            listener.onUserAudioStatusChanged(userId);
+        }
+
+        @Override
+        public void onUserVideoStatusChanged(long userId, InMeetingServiceListener.VideoStatus videoStatus) {
+            listener.onUserVideoStatusChanged(userId);
+        }
+
+        @Override
+        public void onActiveSpeakerVideoUserChanged(long userId) {
+            listener.onActiveSpeakerVideoUserChanged(userId);
+        }
+
+        @Override
+        public void onActiveVideoUserChanged(long userId) {
+            listener.onActiveVideoUserChanged(userId);
+        }
+
+        @Override
+        public void onChatMessageReceived(InMeetingChatMessage message) {
+            listener.onChatMessageReceived(new ChatMessageInfo(
+                    message.getSenderUserId(),
+                    message.getSenderDisplayName(),
+                    message.isChatToAll() ? RosterIndex.NO_USER : message.getReceiverUserId(),
+                    message.getContent(),
+                    message.getTime()));
+        }
+
+        @Override
+        public void onUserNetworkQualityChanged(long userId) {
+            listener.onUserNetworkQualityChanged(userId);
+        }
+
+        @Override
+        public void onMeetingLeaveComplete(long ret) {
+            listener.onMeetingLeaveComplete(ret);
+        }
+    };
+
+    private final ZoomSDKAuthenticationListener authListener = new ZoomSDKAuthenticationListener() {
+        @Override
+        public void onZoomSDKLoginResult(long result) {
+            listener.onZoomSDKLoginResult(result);
+        }
+
+        @Override
+        public void onZoomSDKLogoutResult(long result) {
+            listener.onZoomSDKLogoutResult(result);
+        }
+
+        @Override
+        public void onZoomIdentityExpired() {
+            listener.onZoomIdentityExpired();
+        }
+
+        @Override
+        public void onZoomAuthIdentityExpired() {
+            ZoomLog.w("auth identity expired");
+        }
+    };
+
+    private static final int UNSET = -1;
+
+    private ZoomEventHub.Subscriber listener;
+    private MeetingService listenedMeetingService;
+    private InMeetingService listenedInMeetingService;
+    private boolean listeningToAuth;
+
+    private MeetingRequest preparedRequest;
+    private JoinMeetingParams preparedParams;
+    private JoinMeetingOptions preparedJoinOptions;
+    private StartMeetingOptions preparedStartOptions;
+    private Locale appliedLocale;
+    // meeting settings last written, 1 for true, 0 for false
+    private int autoConnectVoip = UNSET;
+    private int muteMicrophone = UNSET;
+    private int turnOffVideo = UNSET;
+    private int hideVideoPreview = UNSET;
+
+    @Override
+    public void initialize(Context context, ZoomSDKInitParams params, final InitCallback callback) {
+        forgetPrepared();
+        ZoomSDK.getInstance().initialize(
+                context,
+                new ZoomSDKInitializeListener() {
+                    @Override
+                    public void onZoomAuthIdentityExpired() {
+                        ZoomLog.w("auth identity expired");
+                    }
+
+                    @Override
+                    public void onZoomSDKInitializeResult(int errorCode, int internalErrorCode) {
+                        callback.onInitResult(errorCode, internalErrorCode);
+                    }
+                },
+                params);
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return ZoomSDK.getInstance().isInitialized();
+    }
+
+    @Override
+    public void setLocale(Context context, Locale locale) {
+        if (locale.equals(appliedLocale)) {
+            return;
+        }
+        ZoomSDK.getInstance().setSdkLocale(context, locale);
+        appliedLocale = locale;
+    }
+
+    @Override
+    public void setListener(ZoomEventHub.Subscriber listener) {
+        removeListeners();
+        this.listener = listener;
+        if (listener == null) {
+            return;
+        }
+
+        ZoomSDK zoomSDK = ZoomSDK.getInstance();
+        listenedMeetingService = zoomSDK.getMeetingService();
+        if (listenedMeetingService != null) {
+            listenedMeetingService.addListener(meetingListener);
+        }
+        listenedInMeetingService = zoomSDK.getInMeetingService();
+        if (listenedInMeetingService != null) {
+            listenedInMeetingService.addListener(inMeetingListener);
+        }
+        zoomSDK.addAuthenticationListener(authListener);
+        listeningToAuth = true;
+    }
+
+    private void removeListeners() {
+        if (listenedMeetingService != null) {
+            listenedMeetingService.removeListener(meetingListener);
+            listenedMeetingService = null;
+        }
+        if (listenedInMeetingService != null) {
+            listenedInMeetingService.removeListener(inMeetingListener);
+            listenedInMeetingService = null;
+        }
+        if (listeningToAuth) {
+            ZoomSDK.getInstance().removeAuthenticationListener(authListener);
+            listeningToAuth = false;
+        }
+    }
+
+    @Override
+    public boolean hasMeetingService() {
+        return ZoomSDK.getInstance().getMeetingService() != null;
+    }
+
+    @Override
+    public MeetingStatus getMeetingStatus() {
+        MeetingService meetingService = ZoomSDK.getInstance().getMeetingService();
+        return meetingService != null ? meetingService.getMeetingStatus() : null;
+    }
+
+    @Override
+    public void prepareMeeting(Context context, MeetingRequest request) {
+        // written even for the prepared request, the settings may have been forgotten since
+        if (request.langCode != null) {
+            setLocale(context, new Locale(request.langCode));
+        }
+
+        MeetingSettingsHelper msHelper = ZoomSDK.getInstance().getMeetingSettingsHelper();
+        if (autoConnectVoip != 1) {
+            msHelper.setAutoConnectVoIPWhenJoinMeeting(true);
+            autoConnectVoip = 1;
+        }
+        int mute = request.has(MeetingRequest.NO_AUDIO) ? 1 : 0;
+        if (muteMicrophone != mute) {
+            msHelper.setMuteMyMicrophoneWhenJoinMeeting(mute == 1);
+            muteMicrophone = mute;
+        }
+        int videoOff = request.has(MeetingRequest.NO_VIDEO) ? 1 : 0;
+        if (turnOffVideo != videoOff) {
+            msHelper.setTurnOffMyVideoWhenJoinMeeting(videoOff == 1);
+            turnOffVideo = videoOff;
+        }
+        if (hideVideoPreview != 1) {
+            msHelper.disableShowVideoPreviewWhenJoinMeeting(true);
+            hideVideoPreview = 1;
+        }
+
+        if (request.equals(preparedRequest)) {
+            return;
+        }
+        preparedJoinOptions = new JoinMeetingOptions();
+        request.applyTo(preparedJoinOptions);
+        preparedStartOptions = new StartMeetingOptions();
+        request.applyTo(preparedStartOptions);
+        preparedParams = request.toJoinParams();
+        preparedRequest = request;
+    }
+
+    private void forgetPrepared() {
+        preparedRequest = null;
+        preparedParams = null;
+        preparedJoinOptions = null;
+        preparedStartOptions = null;
+        forgetSettings();
+    }
+
+    private void forgetSettings() {
+        appliedLocale = null;
+        autoConnectVoip = UNSET;
+        muteMicrophone = UNSET;
+        turnOffVideo = UNSET;
+        hideVideoPreview = UNSET;
+    }
+
+    @Override
+    public int joinMeeting(Context context, MeetingRequest request) {
+        prepareMeeting(context, request);
+        return ZoomSDK.getInstance().getMeetingService().joinMeetingWithParams(context, preparedParams, preparedJoinOptions);
+    }
+
+    @Override
+    public int startInstantMeeting(Context context, MeetingRequest request) {
+        prepareMeeting(context, request);
+        return ZoomSDK.getInstance().getMeetingService().startInstantMeeting(context, preparedStartOptions);
+    }
+
+    @Override
+    public int startMeeting(Context context, StartMeetingParamsWithoutLogin params, StartMeetingOptions options) {
+        return ZoomSDK.getInstance().getMeetingService().startMeetingWithParams(context, params, options);
+    }
+
+    @Override
+    public boolean hasInMeetingService() {
+        return inMeetingService() != null;
+    }
+
+    @Override
+    public List<Long> getParticipantIds() {
+        InMeetingService service = inMeetingService();
+        return service != null ? service.getInMeetingUserList() : null;
+    }
+
+    @Override
+    public ParticipantInfo getParticipant(long userId) {
+        InMeetingService service = inMeetingService();
+        InMeetingUserInfo userInfo = service != null ? service.getUserInfoById(userId) : null;
+        if (userInfo == null) {
+            return null;
+        }
+
+        InMeetingUserInfo.AudioStatus audioStatus = userInfo.getAudioStatus();
+        InMeetingUserInfo.VideoStatus videoStatus = userInfo.getVideoStatus();
+        return new ParticipantInfo(
+                userId,
+                userInfo.getUserName(),
+                roleCode(userInfo.getInMeetingUserRole()),
+                audioStatus == null || audioStatus.isMuted(),
+                videoStatus != null && videoStatus.isSending());
+    }
+
+    @Override
+    public int getVideoQuality(long userId) {
+        InMeetingService service = inMeetingService();
+        InMeetingUserInfo userInfo = service != null ? service.getUserInfoById(userId) : null;
+        InMeetingUserInfo.VideoStatus videoStatus = userInfo != null ? userInfo.getVideoStatus() : null;
+        if (videoStatus == null) {
+            return -1;
+        }
+        InMeetingUserInfo.VideoQuality quality = videoStatus.getVideoQuality();
+        return quality != null ? quality.ordinal() : 0;
+    }
+
+    static int roleCode(InMeetingUserInfo.InMeetingUserRole role) {
+        if (role == null) {
+            return RosterIndex.ROLE_ATTENDEE;
+        }
+        switch (role) {
+            case USERROLE_HOST:
+                return RosterIndex.ROLE_HOST;
+            case USERROLE_COHOST:
+                return RosterIndex.ROLE_COHOST;
+            case USERROLE_PANELIST:
+                return RosterIndex.ROLE_PANELIST;
+            case USERROLE_ATTENDEE:
+            case USERROLE_NONE:
+                return RosterIndex.ROLE_ATTENDEE;
+            default:
+                return RosterIndex.ROLE_OTHER;
+        }
+    }
+
+    @Override
+    public long getMyUserId() {
+        InMeetingService service = inMeetingService();
+        return service != null ? service.getMyUserID() : RosterIndex.NO_USER;
+    }
+
+    @Override
+    public long getCurrentMeetingNumber() {
+        InMeetingService service = inMeetingService();
+        return service != null ? service.getCurrentMeetingNumber() : 0;
+    }
+
+    @Override
+    public String getMeetingPassword() {
+        InMeetingService service = inMeetingService();
+        return service != null ? service.getMeetingPassword() : null;
+    }
+
+    @Override
+    public InMeetingSession openInMeetingSession() {
+        InMeetingService service = inMeetingService();
+        return service != null ? new Session(service) : null;
+    }
+
+    @Override
+    public int connectAudioWithVoip() {
+        InMeetingService service = inMeetingService();
+        InMeetingAudioController audioController = service != null ? service.getInMeetingAudioController() : null;
+        return audioController != null ? InMeetingConfigBatch.toResult(audioController.connectAudioWithVoIP()) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+    }
+
+    @Override
+    public int pinVideo(boolean pin, long userId) {
+        InMeetingSession session = openInMeetingSession();
+        return session != null ? session.pinVideo(pin, userId) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+    }
+
+    @Override
+    public int spotlightVideo(boolean spotlight, long userId) {
+        InMeetingSession session = openInMeetingSession();
+        return session != null ? session.spotlightVideo(spotlight, userId) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+    }
+
+    @Override
+    public int sendChat(long userId, String content) {
+        InMeetingService service = inMeetingService();
+        InMeetingChatController chatController = service != null ? service.getInMeetingChatController() : null;
+        if (chatController == null) {
+            return InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+        }
+        return InMeetingConfigBatch.toResult(userId == RosterIndex.NO_USER
+                ? chatController.sendChatToGroup(InMeetingChatController.MobileRTCChatGroup.MobileRTCChatGroup_All, content)
+                : chatController.sendChatToUser(userId, content));
+    }
+
+    @Override
+    public boolean isLoggedIn() {
+        return ZoomSDK.getInstance().isLoggedIn();
+    }
+
+    @Override
+    public int loginWithZoom(String email, String password) {
+        return ZoomSDK.getInstance().loginWithZoom(email, password);
+    }
+
+    @Override
+    public int tryAutoLoginZoom() {
+        return ZoomSDK.getInstance().tryAutoLoginZoom();
+    }
+
+    @Override
+    public boolean logoutZoom() {
+        return ZoomSDK.getInstance().logoutZoom();
+    }
+
+    @Override
+    public String[] getAccountInfo() {
+        AccountService accountService = ZoomSDK.getInstance().getAccountService();
+        if (accountService == null) {
+            return null;
+        }
+        return new String[]{String.valueOf(accountService.getAccountEmail()), accountService.getAccountName()};
+    }
+
+    private static InMeetingService inMeetingService() {
+        return ZoomSDK.getInstance().getInMeetingService();
+    }
+
+    /**
+     * Resolves the audio and video controllers on first use, once for the session.
+     */
+    private static final class Session implements InMeetingSession {
+        private final InMeetingService service;
+        private InMeetingAudioController audioController;
+        private InMeetingVideoController videoController;
+
+        Session(InMeetingService service) {
+            this.service = service;
+        }
+
+        @Override
+        public long getMyUserId() {
+            return service.getMyUserID();
+        }
+
+        @Override
+        public int setMeetingTopic(String topic) {
+            return InMeetingConfigBatch.toResult(service.setMeetingTopic(topic));
+        }
+
+        @Override
+        public int changeName(String name, long userId) {
+            return InMeetingConfigBatch.toResult(service.changeName(name, userId));
+        }
+
+        @Override
+        public int allowParticipantsToRename(boolean allow) {
+            return InMeetingConfigBatch.toResult(service.allowParticipantsToRename(allow));
+        }
+
+        @Override
+        public int allowParticipantsToUnmuteSelf(boolean allow) {
+            return InMeetingConfigBatch.toResult(service.allowParticipantsToUnmuteSelf(allow));
+        }
+
+        @Override
+        public int muteMyAudio(boolean mute) {
+            InMeetingAudioController controller = audioController();
+            return controller != null ? InMeetingConfigBatch.toResult(controller.muteMyAudio(mute)) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+        }
+
+        @Override
+        public int muteMyVideo(boolean mute) {
+            InMeetingVideoController controller = videoController();
+            return controller != null ? InMeetingConfigBatch.toResult(controller.muteMyVideo(mute)) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+        }
+
+        @Override
+        public int pinVideo(boolean pin, long userId) {
+            InMeetingVideoController controller = videoController();
+            return controller != null ? InMeetingConfigBatch.toResult(controller.pinVideo(pin, userId)) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+        }
+
+        @Override
+        public int spotlightVideo(boolean spotlight, long userId) {
+            InMeetingVideoController controller = videoController();
+            return controller != null ? InMeetingConfigBatch.toResult(controller.spotLightVideo(spotlight, userId)) : InMeetingConfigBatch.RESULT_NOT_IN_MEETING;
+        }
+
+        private InMeetingAudioController audioController() {
+            if (audioController == null) {
+                audioController = service.getInMeetingAudioController();
+            }
+            return audioController;
+        }
+
+        private InMeetingVideoController videoController() {
+            if (videoController == null) {
+                videoController = service.getInMeetingVideoController();
+            }
+            return videoController;
+        }
+    }
+}
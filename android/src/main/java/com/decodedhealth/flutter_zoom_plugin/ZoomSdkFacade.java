@@ -0,0 +1,141 @@
+package com.decodedhealth.flutter_zoom_plugin;
+
+import android.content.Context;
+
+import java.util.List;
+import java.util.Locale;
+
+import us.zoom.sdk.MeetingStatus;
+import us.zoom.sdk.StartMeetingOptions;
+import us.zoom.sdk.StartMeetingParamsWithoutLogin;
+import us.zoom.sdk.ZoomSDKInitParams;
+
+/**
+ * This interface is everything the plugin uses from the Zoom SDK: initialization, the meeting,
+ * in-meeting and account services and the authentication APIs.
+ *
+ * {@link ZoomSdkAdapter} implements it over the real SDK; a simulator can stand in for it on the
+ * JVM. In-meeting operations answer a MobileRTCSDKError ordinal (0 on success) or one of the
+ * negative InMeetingConfigBatch.RESULT_ codes, RESULT_NOT_IN_MEETING when there is no meeting.
+ * Must be used from the main thread; callbacks are delivered on the main thread.
+ */
+interface ZoomSdkFacade {
+
+    interface InitCallback {
+        void onInitResult(int errorCode, int internalErrorCode);
+    }
+
+    void initialize(Context context, ZoomSDKInitParams params, InitCallback callback);
+
+    boolean isInitialized();
+
+    void setLocale(Context context, Locale locale);
+
+    /**
+     * Sets the receiver of every SDK callback, replacing the previous one. Null stops the callbacks.
+     * Only the services available at the time are listened to; calling it again picks up the others.
+     */
+    void setListener(ZoomEventHub.Subscriber listener);
+
+    boolean hasMeetingService();
+
+    /**
+     * Null when there is no meeting service.
+     */
+    MeetingStatus getMeetingStatus();
+
+    /**
+     * Applies the locale and meeting settings of the request and builds its options ahead of a
+     * join or instant start, so that those are a single SDK call. Only settings that changed since
+     * they were last written, or since the last meeting ended, are written again, and the options
+     * are kept when the request equals the one last prepared.
+     */
+    void prepareMeeting(Context context, MeetingRequest request);
+
+    /**
+     * Prepares the request unless it already was, then joins.
+     */
+    int joinMeeting(Context context, MeetingRequest request);
+
+    int startInstantMeeting(Context context, MeetingRequest request);
+
+    int startMeeting(Context context, StartMeetingParamsWithoutLogin params, StartMeetingOptions options);
+
+    boolean hasInMeetingService();
+
+    /**
+     * Null when there is no meeting.
+     */
+    List<Long> getParticipantIds();
+
+    /**
+     * Null for an unknown user.
+     */
+    ParticipantInfo getParticipant(long userId);
+
+    /**
+     * The quality of the video received from the user, from 0 (unknown) to 3 (good), or -1 for
+     * an unknown user.
+     */
+    int getVideoQuality(long userId);
+
+    long getMyUserId();
+
+    long getCurrentMeetingNumber();
+
+    String getMeetingPassword();
+
+    /**
+     * The in-meeting operations of one batch, bound to the in-meeting service and controllers
+     * resolved when it was opened. Only valid until control returns to the looper.
+     */
+    interface InMeetingSession {
+
+        long getMyUserId();
+
+        int setMeetingTopic(String topic);
+
+        int changeName(String name, long userId);
+
+        int allowParticipantsToRename(boolean allow);
+
+        int allowParticipantsToUnmuteSelf(boolean allow);
+
+        int muteMyAudio(boolean mute);
+
+        int muteMyVideo(boolean mute);
+
+        int pinVideo(boolean pin, long userId);
+
+        int spotlightVideo(boolean spotlight, long userId);
+    }
+
+    /**
+     * Null when there is no meeting.
+     */
+    InMeetingSession openInMeetingSession();
+
+    int connectAudioWithVoip();
+
+    int pinVideo(boolean pin, long userId);
+
+    int spotlightVideo(boolean spotlight, long userId);
+
+    /**
+     * Sends a chat message to the user, or to everyone for RosterIndex.NO_USER.
+     */
+    int sendChat(long userId, String content);
+
+    boolean isLoggedIn();
+
+    int loginWithZoom(String email, String password);
+
+    int tryAutoLoginZoom();
+
+    boolean logoutZoom();
+
+    /**
+     * The account [email, name], or null when no account is available.
+     */
+    String[] getAccountInfo();
+}
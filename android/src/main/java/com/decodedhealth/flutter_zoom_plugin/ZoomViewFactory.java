@@ -2,21 +2,17 @@ package com.decodedhealth.flutter_zoom_plugin;
 
 import android.content.Context;
 
-import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.StandardMessageCodec;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugin.platform.PlatformViewFactory;
 
 public class ZoomViewFactory extends PlatformViewFactory {
-    private final BinaryMessenger messenger;
-
-    public ZoomViewFactory(BinaryMessenger messenger) {
+    public ZoomViewFactory() {
         super(StandardMessageCodec.INSTANCE);
-        this.messenger = messenger;
     }
 
     @Override
     public PlatformView create(Context context, int id, Object o) {
-        return new ZoomView(context, messenger, id);
+        return new ZoomView(context);
     }
 }
@@ -1,3 +1,6 @@
+import 'dart:convert';
+import 'dart:typed_data';
+
 class ZoomOptions {
   String? domain;
   String? appKey;
@@ -224,6 +227,72 @@ class ZoomMeetingOptionAll {
         'inviteViaSms': inviteViaSms.toString(),
         'langCode': langCode.toString(),
       };
+
+  /// Version of the packed layout written by [toOptionBytes].
+  static const int optionCodecVersion = 1;
+
+  /// Longest string, in UTF-8 bytes, that fits the int16 length prefix of
+  /// the packed layout.
+  static const int maxOptionStringBytes = 32767;
+
+  /// Packs the options into the binary layout decoded by the Android
+  /// MeetingOptionsCodec: version byte, flags, invite options and meeting
+  /// views options as 32-bit ints, then length-prefixed UTF-8 strings.
+  /// Throws an [ArgumentError] when a string is longer than
+  /// [maxOptionStringBytes] bytes.
+  Uint8List toOptionBytes() {
+    final flags = (noBottomToolbar ? 1 : 0) |
+        (noChatMsgToast ? 1 << 1 : 0) |
+        (noDialInViaPhone ? 1 << 2 : 0) |
+        (noDialOutToPhone ? 1 << 3 : 0) |
+        (noDisconnectAudio ? 1 << 4 : 0) |
+        (noDrivingMode ? 1 << 5 : 0) |
+        (noInvite ? 1 << 6 : 0) |
+        (noMeetingEndMessage ? 1 << 7 : 0) |
+        (noMeetingErrorMessage ? 1 << 8 : 0) |
+        (noShare ? 1 << 9 : 0) |
+        (noTitlebar ? 1 << 10 : 0) |
+        (noUnmuteConfirmDialog ? 1 << 11 : 0) |
+        (noVideo ? 1 << 12 : 0) |
+        (noWebinarRegisterDialog ? 1 << 13 : 0) |
+        (noAudio ? 1 << 14 : 0);
+
+    final strings = [
+      displayName ?? '',
+      meetingNo,
+      password,
+      customMeetingId,
+      participantId,
+      langCode,
+    ].map((value) => value == null ? null : utf8.encode(value)).toList();
+
+    var length = 13;
+    for (final bytes in strings) {
+      if (bytes != null && bytes.length > maxOptionStringBytes) {
+        throw ArgumentError('meeting option of ${bytes.length} UTF-8 bytes, '
+            'the packed layout allows at most $maxOptionStringBytes');
+      }
+      length += 2 + (bytes?.length ?? 0);
+    }
+
+    final data = ByteData(length);
+    data.setInt8(0, optionCodecVersion);
+    data.setInt32(1, flags);
+    data.setInt32(5, inviteOptions);
+    data.setInt32(9, meetingViewsOptions);
+
+    final buffer = data.buffer.asUint8List();
+    var offset = 13;
+    for (final bytes in strings) {
+      data.setInt16(offset, bytes == null ? -1 : bytes.length);
+      offset += 2;
+      if (bytes != null) {
+        buffer.setRange(offset, offset + bytes.length, bytes);
+        offset += bytes.length;
+      }
+    }
+    return buffer;
+  }
 }
 
 class ZoomInMeetingConfig {
@@ -255,6 +324,435 @@ class ZoomInMeetingConfig {
         'shouldPinHost': shouldPinHost.toString(),
         'shouldSpotlightHost': shouldSpotlightHost.toString()
       };
+
+  /// The same settings as an ordered batch for
+  /// [ZoomViewController.inMeetingConfigBatch].
+  List<ZoomInMeetingOperation> toOperations() => [
+        if (setMeetingTopic != null)
+          ZoomInMeetingOperation.setMeetingTopic(setMeetingTopic!),
+        if (changeName != null) ZoomInMeetingOperation.changeName(changeName!),
+        if (allowParticipantsToRename != null)
+          ZoomInMeetingOperation.allowParticipantsToRename(
+              allowParticipantsToRename == 'true'),
+        if (allowParticipantsToUnmuteSelf != null)
+          ZoomInMeetingOperation.allowParticipantsToUnmuteSelf(
+              allowParticipantsToUnmuteSelf == 'true'),
+        if (muteMyAudio != null)
+          ZoomInMeetingOperation.muteMyAudio(muteMyAudio == 'true'),
+        if (muteMyVideo != null)
+          ZoomInMeetingOperation.muteMyVideo(muteMyVideo == 'true'),
+        if (shouldPinHost) ZoomInMeetingOperation.pinHost(true),
+        if (shouldSpotlightHost) ZoomInMeetingOperation.spotlightHost(true),
+      ];
+}
+
+/// A single in-meeting configuration operation, sent in order with others
+/// through [ZoomViewController.inMeetingConfigBatch].
+class ZoomInMeetingOperation {
+  final int code;
+  final Object argument;
+
+  const ZoomInMeetingOperation._(this.code, this.argument);
+
+  factory ZoomInMeetingOperation.setMeetingTopic(String topic) =>
+      ZoomInMeetingOperation._(0, topic);
+  factory ZoomInMeetingOperation.changeName(String name) =>
+      ZoomInMeetingOperation._(1, name);
+  factory ZoomInMeetingOperation.allowParticipantsToRename(bool allow) =>
+      ZoomInMeetingOperation._(2, allow);
+  factory ZoomInMeetingOperation.allowParticipantsToUnmuteSelf(bool allow) =>
+      ZoomInMeetingOperation._(3, allow);
+  factory ZoomInMeetingOperation.muteMyAudio(bool mute) =>
+      ZoomInMeetingOperation._(4, mute);
+  factory ZoomInMeetingOperation.muteMyVideo(bool mute) =>
+      ZoomInMeetingOperation._(5, mute);
+  factory ZoomInMeetingOperation.pinHost(bool pin) =>
+      ZoomInMeetingOperation._(6, pin);
+  factory ZoomInMeetingOperation.spotlightHost(bool spotlight) =>
+      ZoomInMeetingOperation._(7, spotlight);
+}
+
+/// Per-operation result codes of [ZoomViewController.inMeetingConfigBatch].
+/// Non-negative values are the SDK error codes, 0 being success.
+class ZoomInMeetingResult {
+  static const int success = 0;
+  static const int failed = -1;
+  static const int skipped = -2;
+  static const int unknownOperation = -3;
+  static const int notInMeeting = -4;
+  static const int hostNotFound = -5;
+}
+
+/// A roster snapshot or a batch of roster changes, with the participants
+/// laid out in parallel lists.
+class ZoomParticipantEvent {
+  static const int roleAttendee = 0;
+  static const int roleHost = 1;
+  static const int roleCoHost = 2;
+  static const int rolePanelist = 3;
+  static const int roleOther = 4;
+
+  static const int flagAudioMuted = 1;
+  static const int flagVideoOn = 2;
+
+  static const int changeJoined = 1;
+  static const int changeRole = 4;
+  static const int changeAudioVideo = 8;
+
+  final bool isSnapshot;
+  final int sequence;
+  final List<int> ids;
+  final List<String?> names;
+  final List<int> roles;
+  final List<int> flags;
+
+  /// Change mask per participant, empty for snapshots.
+  final List<int> changes;
+
+  /// Ids of the participants that left, empty for snapshots.
+  final List<int> left;
+
+  ZoomParticipantEvent(
+      {required this.isSnapshot,
+      required this.sequence,
+      required this.ids,
+      required this.names,
+      required this.roles,
+      required this.flags,
+      this.changes = const [],
+      this.left = const []});
+
+  factory ZoomParticipantEvent.fromMap(dynamic map) => ZoomParticipantEvent(
+        isSnapshot: map['type'] == 'snapshot',
+        sequence: map['seq'],
+        ids: List<int>.from(map['ids']),
+        names: List<String?>.from(map['names']),
+        roles: List<int>.from(map['roles']),
+        flags: List<int>.from(map['flags']),
+        changes: List<int>.from(map['changes'] ?? const <int>[]),
+        left: List<int>.from(map['left'] ?? const <int>[]),
+      );
+
+  /// Decodes the compact encoding: [type, sequence, count, left count], then
+  /// an (id, role | flags << 8 | changes << 16) pair per participant, then
+  /// the ids that left.
+  factory ZoomParticipantEvent.fromPacked(dynamic packed) {
+    final values = packed as List<int>;
+    final count = values[2];
+    final leftCount = values[3];
+    final ids = <int>[];
+    final roles = <int>[];
+    final flags = <int>[];
+    final changes = <int>[];
+    for (var i = 0; i < count; i++) {
+      final bits = values[5 + 2 * i];
+      ids.add(values[4 + 2 * i]);
+      roles.add(bits & 0xff);
+      flags.add((bits >> 8) & 0xff);
+      changes.add((bits >> 16) & 0xff);
+    }
+    final leftStart = 4 + 2 * count;
+    return ZoomParticipantEvent(
+      isSnapshot: values[0] == 0,
+      sequence: values[1],
+      ids: ids,
+      names: List<String?>.filled(count, null),
+      roles: roles,
+      flags: flags,
+      changes: values[0] == 0 ? const [] : changes,
+      left: values.sublist(leftStart, leftStart + leftCount),
+    );
+  }
+}
+
+/// A meeting status event received with the compact encoding.
+class ZoomStatusEvent {
+  final int sequence;
+  final ZoomMeetingStatus status;
+  final int errorCode;
+  final int internalErrorCode;
+
+  ZoomStatusEvent(
+      {required this.sequence,
+      required this.status,
+      required this.errorCode,
+      required this.internalErrorCode});
+
+  factory ZoomStatusEvent.fromPacked(dynamic packed) {
+    final values = packed as List<int>;
+    return ZoomStatusEvent(
+      sequence: values[0],
+      status: values[1] < ZoomMeetingStatus.values.length
+          ? ZoomMeetingStatus.values[values[1]]
+          : ZoomMeetingStatus.MEETING_STATUS_UNKNOWN,
+      errorCode: values[2],
+      internalErrorCode: values[3],
+    );
+  }
+}
+
+/// An event of [ZoomViewController.activeSpeakerEvents]. A user id of 0
+/// means no user.
+class ZoomActiveSpeakerEvent {
+  final int sequence;
+  final int activeSpeakerUserId;
+  final int activeVideoUserId;
+  final List<int> videoOnUserIds;
+  final List<int> videoOffUserIds;
+
+  ZoomActiveSpeakerEvent(
+      {required this.sequence,
+      required this.activeSpeakerUserId,
+      required this.activeVideoUserId,
+      required this.videoOnUserIds,
+      required this.videoOffUserIds});
+
+  factory ZoomActiveSpeakerEvent.fromPacked(dynamic packed) {
+    final values = packed as List<int>;
+    final onCount = values[3];
+    final offCount = values[4];
+    return ZoomActiveSpeakerEvent(
+      sequence: values[0],
+      activeSpeakerUserId: values[1],
+      activeVideoUserId: values[2],
+      videoOnUserIds: values.sublist(5, 5 + onCount),
+      videoOffUserIds: values.sublist(5 + onCount, 5 + onCount + offCount),
+    );
+  }
+}
+
+/// A page of the roster from [ZoomViewController.getParticipants]. Columns
+/// that were not requested are empty.
+class ZoomParticipants {
+  static const int fieldNames = 1;
+  static const int fieldRoles = 2;
+  static const int fieldFlags = 4;
+  static const int fieldAll = fieldNames | fieldRoles | fieldFlags;
+
+  /// Size of the whole roster, for paging.
+  final int total;
+  final int offset;
+  final int hostId;
+  final int selfId;
+  final List<int> ids;
+  final List<String?> names;
+
+  /// [ZoomParticipantEvent] role codes.
+  final List<int> roles;
+
+  /// [ZoomParticipantEvent] audio and video flags.
+  final List<int> flags;
+
+  ZoomParticipants(
+      {required this.total,
+      required this.offset,
+      required this.hostId,
+      required this.selfId,
+      required this.ids,
+      this.names = const [],
+      this.roles = const [],
+      this.flags = const []});
+
+  int get length => ids.length;
+
+  factory ZoomParticipants.fromMap(dynamic map) {
+    return ZoomParticipants(
+      total: map['total'],
+      offset: map['offset'],
+      hostId: map['hostId'],
+      selfId: map['selfId'],
+      ids: List<int>.from(map['ids']),
+      names: map['names'] == null ? const [] : List<String?>.from(map['names']),
+      roles: map['roles'] == null ? const [] : List<int>.from(map['roles']),
+      flags: map['flags'] == null ? const [] : List<int>.from(map['flags']),
+    );
+  }
+}
+
+/// A batch of [ZoomViewController.chatMessages], the messages laid out in
+/// parallel lists. A receiver id of 0 means everyone. [dropped] counts the
+/// messages lost to the native buffer bound since the previous batch.
+class ZoomChatBatch {
+  final int sequence;
+  final int dropped;
+  final List<int> senderIds;
+  final List<String?> senderNames;
+  final List<int> receiverIds;
+  final List<int> times;
+  final List<String?> contents;
+
+  ZoomChatBatch(
+      {required this.sequence,
+      required this.dropped,
+      required this.senderIds,
+      required this.senderNames,
+      required this.receiverIds,
+      required this.times,
+      required this.contents});
+
+  int get length => senderIds.length;
+
+  factory ZoomChatBatch.fromMap(dynamic map) {
+    return ZoomChatBatch(
+      sequence: map['seq'],
+      dropped: map['dropped'],
+      senderIds: List<int>.from(map['senderIds']),
+      senderNames: List<String?>.from(map['senderNames']),
+      receiverIds: List<int>.from(map['receiverIds']),
+      times: List<int>.from(map['times']),
+      contents: List<String?>.from(map['contents']),
+    );
+  }
+}
+
+enum ZoomRecoveryEventType { attempt, recovered, exhausted }
+
+/// An event of [ZoomViewController.recoveryEvents]: an [attempt] is scheduled
+/// after [delay] because of [errorCode], the meeting was [recovered] after
+/// [attempts] attempts in [recoverTime], or the recovery was given up
+/// ([exhausted]).
+class ZoomRecoveryEvent {
+  final ZoomRecoveryEventType type;
+  final int attempts;
+  final Duration? delay;
+  final Duration? recoverTime;
+  final int? errorCode;
+
+  ZoomRecoveryEvent(
+      {required this.type,
+      required this.attempts,
+      this.delay,
+      this.recoverTime,
+      this.errorCode});
+
+  factory ZoomRecoveryEvent.fromMap(dynamic map) {
+    final type = ZoomRecoveryEventType.values.firstWhere(
+        (t) => t.toString().split('.')[1] == map['type']);
+    return ZoomRecoveryEvent(
+      type: type,
+      attempts: map['attempts'],
+      delay: map['delayMs'] == null
+          ? null
+          : Duration(milliseconds: map['delayMs']),
+      recoverTime: map['recoverMs'] == null
+          ? null
+          : Duration(milliseconds: map['recoverMs']),
+      errorCode: map['errorCode'],
+    );
+  }
+}
+
+/// The summary of the samples of one metric over a window.
+class ZoomQualityStats {
+  final double min;
+  final double mean;
+  final double max;
+  final double p50;
+  final double p90;
+  final double p99;
+
+  ZoomQualityStats(
+      {required this.min,
+      required this.mean,
+      required this.max,
+      required this.p50,
+      required this.p90,
+      required this.p99});
+
+  factory ZoomQualityStats.fromList(dynamic list) {
+    final values = List<double>.from(list);
+    return ZoomQualityStats(
+        min: values[0],
+        mean: values[1],
+        max: values[2],
+        p50: values[3],
+        p90: values[4],
+        p99: values[5]);
+  }
+}
+
+/// A window of [ZoomViewController.qualitySummaries]. Video qualities range
+/// from 0 (unknown) to 3 (good). The metrics are myVideoQuality,
+/// videoQuality, participants, videoSenders and networkQualityChanges; a
+/// metric without samples in the window is absent. Each videoQuality sample
+/// rates at most four video senders, taken in turn.
+class ZoomQualitySummary {
+  final DateTime start;
+  final Duration duration;
+  final int samples;
+  final Map<String, ZoomQualityStats> metrics;
+
+  ZoomQualitySummary(
+      {required this.start,
+      required this.duration,
+      required this.samples,
+      required this.metrics});
+
+  factory ZoomQualitySummary.fromMap(dynamic map) {
+    final metrics = <String, ZoomQualityStats>{};
+    (map['metrics'] as Map).forEach((name, values) {
+      metrics[name as String] = ZoomQualityStats.fromList(values);
+    });
+    return ZoomQualitySummary(
+      start: DateTime.fromMillisecondsSinceEpoch(map['start']),
+      duration: Duration(milliseconds: map['durationMs']),
+      samples: map['samples'],
+      metrics: metrics,
+    );
+  }
+}
+
+/// The meeting state as last reported by the SDK, see
+/// [ZoomViewController.getState].
+class ZoomMeetingState {
+  final ZoomMeetingStatus status;
+  final int errorCode;
+  final int internalErrorCode;
+  final int meetingNumber;
+  final int myUserId;
+  final int hostId;
+  final bool audioMuted;
+  final bool videoOn;
+
+  /// Incremented on every change, equal versions mean an unchanged state.
+  final int version;
+
+  ZoomMeetingState(
+      {required this.status,
+      required this.errorCode,
+      required this.internalErrorCode,
+      required this.meetingNumber,
+      required this.myUserId,
+      required this.hostId,
+      required this.audioMuted,
+      required this.videoOn,
+      required this.version});
+
+  factory ZoomMeetingState.fromMap(dynamic map) => ZoomMeetingState(
+        status: ZoomMeetingStatus.values.firstWhere(
+            (status) => status.toString().split('.')[1] == map['status'],
+            orElse: () => ZoomMeetingStatus.MEETING_STATUS_UNKNOWN),
+        errorCode: map['errorCode'],
+        internalErrorCode: map['internalErrorCode'],
+        meetingNumber: map['meetingNumber'],
+        myUserId: map['myUserId'],
+        hostId: map['hostId'],
+        audioMuted: map['audioMuted'],
+        videoOn: map['videoOn'],
+        version: map['version'],
+      );
+}
+
+/// How the native side thins out meeting status events within a window.
+enum ZoomStatusDropPolicy {
+  /// Deliver every event, dropping the oldest when the queue is full.
+  keepAll,
+
+  /// Deliver only the latest event of each window.
+  keepLatest,
+
+  /// Drop events that repeat the previous status.
+  transitionsOnly,
 }
 
 enum ZoomMeetingStatus {
@@ -332,3 +830,6 @@ enum ZoomMeetingError {
   MEETING_ERROR_HOST_NOT_LOGIN,
   MEETING_ERROR_SDK_NOT_INIT,
 }
+
+/// Native log levels, from the most to the least verbose.
+enum ZoomLogLevel { verbose, debug, info, warn, error, none }
@@ -59,38 +59,125 @@ class _ZoomViewState extends State<ZoomView> {
 }
 
 class ZoomViewController {
+  /// A controller for the channels bound when the plugin attaches to the
+  /// engine, usable before any [ZoomView] is mounted, for example to
+  /// initialize the SDK at startup. Android only: on iOS the channels exist
+  /// once a [ZoomView] is created.
+  ZoomViewController.headless() : this._(0);
+
   ZoomViewController._(int id)
       : _methodChannel =
             new MethodChannel('com.decodedhealth/flutter_zoom_plugin'),
         _zoomStatusEventChannel =
-            new EventChannel("com.decodedhealth/zoom_event_stream");
+            new EventChannel("com.decodedhealth/zoom_event_stream"),
+        _participantEventChannel =
+            new EventChannel("com.decodedhealth/zoom_participant_stream"),
+        _authEventChannel =
+            new EventChannel("com.decodedhealth/zoom_auth_event_stream"),
+        _metricsEventChannel =
+            new EventChannel("com.decodedhealth/zoom_metrics_stream"),
+        _activeSpeakerEventChannel =
+            new EventChannel("com.decodedhealth/zoom_active_speaker_stream"),
+        _qualityEventChannel =
+            new EventChannel("com.decodedhealth/zoom_quality_stream"),
+        _recoveryEventChannel =
+            new EventChannel("com.decodedhealth/zoom_recovery_stream"),
+        _chatEventChannel =
+            new EventChannel("com.decodedhealth/zoom_chat_stream");
 
   final MethodChannel _methodChannel;
   final EventChannel _zoomStatusEventChannel;
-
-  Future<ZoomApiError> initZoom(ZoomOptions options) async {
+  final EventChannel _participantEventChannel;
+  final EventChannel _authEventChannel;
+  final EventChannel _metricsEventChannel;
+  final EventChannel _activeSpeakerEventChannel;
+  final EventChannel _qualityEventChannel;
+  final EventChannel _recoveryEventChannel;
+  final EventChannel _chatEventChannel;
+
+  // Cleared when the native side rejects the packed option layout.
+  bool _useOptionBytes = true;
+
+  /// Initializes the SDK. On Android, the call fails with a
+  /// PlatformException with code TIMEOUT when the SDK has not answered within
+  /// [timeout], and can be retried. It fails with code PARAMS_CHANGED when
+  /// the SDK was already initialized in this process with other credentials,
+  /// for instance prewarmed with the ones of the last run: the new ones are
+  /// saved and used from the next start.
+  Future<ZoomApiError> initZoom(ZoomOptions options,
+      {Duration timeout = const Duration(seconds: 30)}) async {
     var optionMap = new Map<String, String?>();
     optionMap.putIfAbsent("sdkToken", () => options.jwtToken);
     optionMap.putIfAbsent("appKey", () => options.appKey);
     optionMap.putIfAbsent("appSecret", () => options.appSecret);
     optionMap.putIfAbsent("domain", () => options.domain);
     optionMap.putIfAbsent("langCode", () => options.langCode);
+    optionMap.putIfAbsent(
+        "timeoutMs", () => timeout.inMilliseconds.toString());
 
     var ret = await _methodChannel.invokeMethod('init', optionMap);
     return zoomApiErrorFromInt[ret[0]] ?? ZoomApiError.ZOOM_API_INVALID_STATUS;
   }
 
+  /// Startup timings (in milliseconds) of the native SDK initialization.
+  /// Android only.
+  Future<Map?> getInitTimings() async {
+    return _methodChannel.invokeMethod('get_init_timings');
+  }
+
+  /// Queue depth and wait times of the native command scheduler, overall
+  /// and per method. Android only.
+  Future<Map?> getSchedulerStats() async {
+    return _methodChannel.invokeMethod('get_scheduler_stats');
+  }
+
+  /// Latency histograms (count, meanMs, p50Ms, p90Ms, p99Ms, maxMs) per
+  /// method, per status transition, from join to in meeting and for
+  /// reconnects, with the init timings and the counts and latencies of the
+  /// calls waiting on an SDK callback ("pendingCalls"). Android only.
+  Future<Map?> getMetrics() async {
+    return _methodChannel.invokeMethod('get_metrics');
+  }
+
+  /// The same metrics as [getMetrics], sent every [interval]. Android only.
+  Stream<dynamic> metricsEvents(
+      {Duration interval = const Duration(seconds: 5)}) {
+    return _metricsEventChannel
+        .receiveBroadcastStream({'intervalMs': interval.inMilliseconds});
+  }
+
+  /// Sets the level below which native log entries are discarded. Android
+  /// only.
+  Future<void> setLogLevel(ZoomLogLevel level) async {
+    await _methodChannel.invokeMethod(
+        'set_log_level', {'level': level.toString().split('.')[1]});
+  }
+
+  /// The most recent native log entries, oldest first, for bug reports.
+  /// Android only.
+  Future<List<String>> dumpLogs({int? limit}) async {
+    var ret = await _methodChannel
+        .invokeMethod('dump_logs', limit == null ? null : {'limit': limit});
+    return List<String>.from(ret);
+  }
+
   Future<void> releaseListener() async {
     _methodChannel.invokeMethod('releaseListener');
   }
 
+  /// Logs in with email and password. On Android, the call fails with a
+  /// PlatformException with code TIMEOUT when the SDK has not answered within
+  /// [timeout], and can be retried.
   Future<ZoomAuthenticationError> loginWithEmail(String email, String password,
-      {bool shouldLogout = true}) async {
+      {bool shouldLogout = true,
+      Duration timeout = const Duration(seconds: 30)}) async {
     if (shouldLogout) await logout();
 
     var optionMap = new Map<String, String?>();
     optionMap.putIfAbsent("email", () => email);
     optionMap.putIfAbsent("password", () => password);
+    optionMap.putIfAbsent(
+        "timeoutMs", () => timeout.inMilliseconds.toString());
     var ret = await _methodChannel.invokeMethod('login_with_email', optionMap);
     return zoomAuthenticationErrorFromInt[ret] ??
         ZoomAuthenticationError.ZOOM_AUTH_ERROR_WRONG_OTHER_ISSUE;
@@ -114,8 +201,7 @@ class ZoomViewController {
 
   Future<ZoomMeetingError> startInstantMeeting(
       ZoomMeetingOptionAll options) async {
-    var ret = await _methodChannel.invokeMethod(
-        'start_instant_meeting', options.toOptionMap());
+    var ret = await _invokeWithOptions('start_instant_meeting', options);
     return zoomMeetingErrorFromInt[ret] ??
         ZoomMeetingError.MEETING_ERROR_UNKNOWN;
   }
@@ -139,11 +225,39 @@ class ZoomViewController {
   }
 
   Future<ZoomMeetingError> joinMeeting(ZoomMeetingOptionAll options) async {
-    var ret = await _methodChannel.invokeMethod('join', options.toOptionMap());
+    var ret = await _invokeWithOptions('join', options);
     print('Zoom joinmeeting return: $ret');
     return zoomMeetingErrorFromInt[ret] ??
         ZoomMeetingError.MEETING_ERROR_UNKNOWN;
   }
+
+  /// Applies the locale and meeting settings of [options] and builds the
+  /// join options ahead of time, so that a following [joinMeeting] or
+  /// [startInstantMeeting] with the same options is a single SDK call. Call
+  /// it when the meeting screen opens. Returns false when the SDK is not
+  /// initialized. Android only.
+  Future<bool> prepareJoin(ZoomMeetingOptionAll options) async {
+    if (defaultTargetPlatform != TargetPlatform.android) return false;
+    var ret = await _invokeWithOptions('prepare_join', options);
+    return ret == true;
+  }
+
+  /// Sends the meeting options packed on Android, falling back to the
+  /// string map when the native side does not support the packed version.
+  Future<dynamic> _invokeWithOptions(
+      String method, ZoomMeetingOptionAll options) async {
+    if (defaultTargetPlatform == TargetPlatform.android && _useOptionBytes) {
+      try {
+        return await _methodChannel.invokeMethod(
+            method, options.toOptionBytes());
+      } on PlatformException catch (e) {
+        if (e.code != 'UNSUPPORTED_CODEC_VERSION') rethrow;
+        _useOptionBytes = false;
+      }
+    }
+    return _methodChannel.invokeMethod(method, options.toOptionMap());
+  }
+
   // Future<bool?> joinMeeting(ZoomMeetingOptions options) async {
   //   var optionMap = new Map<String, String?>();
   //   optionMap.putIfAbsent("userId", () => options.userId);
@@ -170,6 +284,13 @@ class ZoomViewController {
             ZoomMeetingStatus.values, ZoomMeetingStatus.MEETING_STATUS_UNKNOWN);
   }
 
+  /// The whole meeting state in one call, answered from the state kept by the
+  /// native listeners without querying the SDK. Android only.
+  Future<ZoomMeetingState> getState() async {
+    return ZoomMeetingState.fromMap(
+        await _methodChannel.invokeMethod('get_state'));
+  }
+
   Future<List?> getMeetingPassword() async {
     return _methodChannel.invokeMethod('get_meeting_password');
   }
@@ -182,10 +303,215 @@ class ZoomViewController {
     _methodChannel.invokeMethod('in_meeting_config', options.toOptionMap());
   }
 
+  /// Runs the operations in order in a single platform call and returns one
+  /// [ZoomInMeetingResult] code per operation. With [stopOnFailure] the
+  /// operations after the first failure are skipped.
+  Future<List<int>> inMeetingConfigBatch(List<ZoomInMeetingOperation> operations,
+      {bool stopOnFailure = false}) async {
+    var flat = <Object>[];
+    for (final operation in operations) {
+      flat..add(operation.code)..add(operation.argument);
+    }
+    var ret = await _methodChannel.invokeMethod('in_meeting_config_batch', {
+      'operations': flat,
+      'stopOnFailure': stopOnFailure,
+    });
+    return List<int>.from(ret);
+  }
+
+  /// Keeps the current host pinned and/or spotlighted. The policy is set once
+  /// and re-applied natively when the host joins late, changes or the meeting
+  /// reconnects, so there is no need to call [inMeetingConfig] again.
+  /// Passing false for both clears it. Android only.
+  Future<void> setVideoPolicy(
+      {bool pinHost = false, bool spotlightHost = false}) async {
+    await _methodChannel.invokeMethod('set_video_policy', {
+      'pinHost': pinHost,
+      'spotlightHost': spotlightHost,
+    });
+  }
+
   Stream<dynamic> get zoomStatusEvents {
     return _zoomStatusEventChannel.receiveBroadcastStream();
   }
 
+  /// Meeting status events coalesced natively over [window] according to
+  /// [policy], keeping at most [capacity] pending events. Each event is
+  /// [status, description, sequence]; a gap in the sequence means events
+  /// were dropped. Failed and idle statuses are never dropped.
+  Stream<dynamic> zoomStatusEventsWith(
+      {ZoomStatusDropPolicy policy = ZoomStatusDropPolicy.keepAll,
+      Duration window = Duration.zero,
+      int capacity = 32}) {
+    return _zoomStatusEventChannel.receiveBroadcastStream({
+      'policy': const {
+        ZoomStatusDropPolicy.keepAll: 'keep_all',
+        ZoomStatusDropPolicy.keepLatest: 'keep_latest',
+        ZoomStatusDropPolicy.transitionsOnly: 'transitions_only',
+      }[policy],
+      'windowMs': window.inMilliseconds,
+      'capacity': capacity,
+    });
+  }
+
+  /// Meeting status events sent natively as small integer codes. The
+  /// descriptions can be fetched once with [getStatusDescriptions].
+  /// Android only.
+  Stream<ZoomStatusEvent> compactStatusEvents(
+      {ZoomStatusDropPolicy policy = ZoomStatusDropPolicy.keepAll,
+      Duration window = Duration.zero,
+      int capacity = 32}) {
+    return _zoomStatusEventChannel.receiveBroadcastStream({
+      'policy': const {
+        ZoomStatusDropPolicy.keepAll: 'keep_all',
+        ZoomStatusDropPolicy.keepLatest: 'keep_latest',
+        ZoomStatusDropPolicy.transitionsOnly: 'transitions_only',
+      }[policy],
+      'windowMs': window.inMilliseconds,
+      'capacity': capacity,
+      'encoding': 'compact',
+    }).map((event) => ZoomStatusEvent.fromPacked(event));
+  }
+
+  /// Status descriptions keyed by [ZoomMeetingStatus] index. Android only.
+  Future<Map<int, String>> getStatusDescriptions() async {
+    var ret = await _methodChannel.invokeMethod('get_status_descriptions');
+    return Map<int, String>.from(ret);
+  }
+
+  /// A snapshot of the participant roster followed by batched deltas.
+  /// With [compact] the events carry no names, see [getParticipantNames].
+  /// Android only.
+  Stream<ZoomParticipantEvent> participantEvents({bool compact = false}) {
+    if (compact) {
+      return _participantEventChannel
+          .receiveBroadcastStream({'encoding': 'compact'}).map(
+              (event) => ZoomParticipantEvent.fromPacked(event));
+    }
+    return _participantEventChannel
+        .receiveBroadcastStream()
+        .map((event) => ZoomParticipantEvent.fromMap(event));
+  }
+
+  /// The active speaker and active video users, with the users whose video
+  /// was turned on or off, sent at most once per [interval] with the latest
+  /// values. Android only.
+  Stream<ZoomActiveSpeakerEvent> activeSpeakerEvents(
+      {Duration interval = const Duration(milliseconds: 100)}) {
+    return _activeSpeakerEventChannel
+        .receiveBroadcastStream({'intervalMs': interval.inMilliseconds}).map(
+            (event) => ZoomActiveSpeakerEvent.fromPacked(event));
+  }
+
+  /// In-meeting chat messages in batches: a batch is sent when [maxBatch]
+  /// messages are waiting or [interval] after the first one arrived. At most
+  /// [capacity] messages are buffered natively, the oldest ones being dropped
+  /// beyond that. Android only.
+  Stream<ZoomChatBatch> chatMessages(
+      {Duration interval = const Duration(milliseconds: 250),
+      int maxBatch = 50,
+      int capacity = 500}) {
+    return _chatEventChannel.receiveBroadcastStream({
+      'intervalMs': interval.inMilliseconds,
+      'maxBatch': maxBatch,
+      'capacity': capacity,
+    }).map((event) => ZoomChatBatch.fromMap(event));
+  }
+
+  /// Sends the chat messages in a single platform call, each to the user at
+  /// the same index of [toUserIds], or to everyone when [toUserIds] is null
+  /// or the id is 0. Returns one [ZoomInMeetingResult] code per message.
+  /// Android only.
+  Future<List<int>> sendChatBatch(List<String> contents,
+      {List<int>? toUserIds}) async {
+    var ret = await _methodChannel.invokeMethod('send_chat_batch', {
+      'userIds': toUserIds ?? List<int>.filled(contents.length, 0),
+      'contents': contents,
+    });
+    return List<int>.from(ret);
+  }
+
+  /// Rejoins the last joined meeting natively when it is lost to a network
+  /// error, up to [maxAttempts] times, waiting an exponential backoff with
+  /// jitter from [baseDelay] up to [maxDelay] before each attempt. Progress is
+  /// sent on [recoveryEvents] and the time to recover is part of [getMetrics].
+  /// Android only.
+  Future<void> setAutoRejoin(
+      {bool enabled = true,
+      int maxAttempts = 5,
+      Duration baseDelay = const Duration(seconds: 1),
+      Duration maxDelay = const Duration(seconds: 30)}) async {
+    await _methodChannel.invokeMethod('set_auto_rejoin', {
+      'enabled': enabled,
+      'maxAttempts': maxAttempts,
+      'baseDelayMs': baseDelay.inMilliseconds,
+      'maxDelayMs': maxDelay.inMilliseconds,
+    });
+  }
+
+  /// The progress of the automatic rejoin, see [setAutoRejoin]. Android only.
+  Stream<ZoomRecoveryEvent> get recoveryEvents {
+    return _recoveryEventChannel
+        .receiveBroadcastStream()
+        .map((event) => ZoomRecoveryEvent.fromMap(event));
+  }
+
+  /// Starts sampling the meeting quality every [interval]. The samples are
+  /// summarized natively and one [ZoomQualitySummary] per [window] is sent on
+  /// [qualitySummaries]. Calling it again restarts the sampler. Android only.
+  Future<void> startQualitySampler(
+      {Duration interval = const Duration(seconds: 1),
+      Duration window = const Duration(minutes: 1)}) async {
+    await _methodChannel.invokeMethod('start_quality_sampler', {
+      'intervalMs': interval.inMilliseconds,
+      'windowMs': window.inMilliseconds,
+    });
+  }
+
+  /// Stops the sampler, the summary of the window in progress is sent first.
+  /// Android only.
+  Future<void> stopQualitySampler() async {
+    await _methodChannel.invokeMethod('stop_quality_sampler');
+  }
+
+  /// The summaries of the quality sampler. Android only.
+  Stream<ZoomQualitySummary> get qualitySummaries {
+    return _qualityEventChannel
+        .receiveBroadcastStream()
+        .map((event) => ZoomQualitySummary.fromMap(event));
+  }
+
+  /// Login session transitions as [state, result], starting with the
+  /// current state. States are LOGGED_OUT, LOGGING_IN, LOGGED_IN,
+  /// LOGIN_FAILED and EXPIRED. Android only.
+  Stream<dynamic> get authEvents {
+    return _authEventChannel.receiveBroadcastStream();
+  }
+
+  /// Display names of the given participants, null for unknown ids.
+  /// Android only.
+  Future<List<String?>> getParticipantNames(List<int> ids) async {
+    var ret = await _methodChannel.invokeMethod('get_participant_names', ids);
+    return List<String?>.from(ret);
+  }
+
+  /// The participants in one reply, from the native roster, in columns.
+  /// [fields] selects the optional columns ([ZoomParticipants.fieldNames],
+  /// [ZoomParticipants.fieldRoles], [ZoomParticipants.fieldFlags]); ids are
+  /// always sent. Participants are ordered by id; with a [limit], only that
+  /// many are sent from [offset]. Android only.
+  Future<ZoomParticipants> getParticipants(
+      {int fields = ZoomParticipants.fieldAll,
+      int offset = 0,
+      int limit = 0}) async {
+    var ret = await _methodChannel.invokeMethod('get_participants', {
+      'fields': fields,
+      'offset': offset,
+      'limit': limit,
+    });
+    return ZoomParticipants.fromMap(ret);
+  }
+
   static Map<int, ZoomApiError> zoomApiErrorFromInt = {
     9: ZoomApiError.ZOOM_API_ERROR_EMAIL_LOGIN_IS_DISABLED,
     8: ZoomApiError.ZOOM_API_ERROR_FAILED_CLIENT_INCOMPATIBLE,